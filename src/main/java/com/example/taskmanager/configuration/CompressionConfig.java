@@ -0,0 +1,26 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.web.ListCacheProperties;
+import com.example.taskmanager.web.PrecompressedTaskListFilter;
+import com.example.taskmanager.web.TaskListResponseCache;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(ListCacheProperties.class)
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<PrecompressedTaskListFilter> precompressedTaskListFilter(TaskListResponseCache cache, ListCacheProperties listCacheProperties, ServerProperties serverProperties) {
+        long minResponseSize = serverProperties.getCompression().getMinResponseSize().toBytes();
+        FilterRegistrationBean<PrecompressedTaskListFilter> registration = new FilterRegistrationBean<>(new PrecompressedTaskListFilter(cache, minResponseSize));
+        registration.addUrlPatterns("/api/tasks");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 200);
+        registration.setEnabled(listCacheProperties.enabled());
+        return registration;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.tenant.TenantProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolValidator connectionPoolValidator(DataSource dataSource, ServerProperties serverProperties, TenantProperties tenantProperties) {
+        return new ConnectionPoolValidator(dataSource, serverProperties.getTomcat().getThreads().getMax(), tenantProperties);
+    }
+}
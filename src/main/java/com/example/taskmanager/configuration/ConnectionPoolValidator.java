@@ -0,0 +1,67 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.tenant.TenantProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Refuses to start when the connection pool is sized against the rest of the request path: a pool
+ * larger than the request thread pool holds connections no thread can ever use, and a tenant
+ * connection budget larger than the pool cannot be enforced.
+ */
+public class ConnectionPoolValidator implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolValidator.class);
+
+    private final DataSource dataSource;
+    private final int requestThreads;
+    private final TenantProperties tenantProperties;
+
+    public ConnectionPoolValidator(DataSource dataSource, int requestThreads, TenantProperties tenantProperties) {
+        this.dataSource = dataSource;
+        this.requestThreads = requestThreads;
+        this.tenantProperties = tenantProperties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        HikariDataSource pool;
+        try {
+            pool = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            logger.info("Data source is not a Hikari pool, skipping pool size validation");
+            return;
+        }
+        List<String> problems = validate(pool.getMaximumPoolSize(), requestThreads, tenantProperties);
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid connection pool configuration: " + String.join("; ", problems));
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (pool.getMaximumPoolSize() > cores * 4) {
+            logger.warn("Connection pool size {} is more than four times the {} available cores", pool.getMaximumPoolSize(), cores);
+        }
+    }
+
+    static List<String> validate(int poolSize, int requestThreads, TenantProperties tenantProperties) {
+        List<String> problems = new ArrayList<>();
+        if (poolSize > requestThreads) {
+            problems.add("pool size " + poolSize + " exceeds the " + requestThreads + " request threads");
+        }
+        if (tenantProperties.defaults().maxConnections() > poolSize) {
+            problems.add("default tenant connection budget " + tenantProperties.defaults().maxConnections() + " exceeds pool size " + poolSize);
+        }
+        for (Map.Entry<String, TenantProperties.Limits> override : tenantProperties.overrides().entrySet()) {
+            if (override.getValue().maxConnections() > poolSize) {
+                problems.add("connection budget " + override.getValue().maxConnections() + " of tenant " + override.getKey() + " exceeds pool size " + poolSize);
+            }
+        }
+        return problems;
+    }
+}
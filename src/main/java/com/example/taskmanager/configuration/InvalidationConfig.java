@@ -0,0 +1,33 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.invalidation.InProcessInvalidationBus;
+import com.example.taskmanager.invalidation.InvalidationBus;
+import com.example.taskmanager.invalidation.InvalidationProperties;
+import com.example.taskmanager.invalidation.PostgresInvalidationBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(InvalidationBus.class)
+    @ConditionalOnProperty(name = "taskmanager.invalidation.bus", havingValue = "in-process", matchIfMissing = true)
+    public InvalidationBus inProcessInvalidationBus() {
+        return new InProcessInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(InvalidationBus.class)
+    @ConditionalOnProperty(name = "taskmanager.invalidation.bus", havingValue = "postgres")
+    public InvalidationBus postgresInvalidationBus(DataSource dataSource, DataSourceProperties dataSourceProperties, InvalidationProperties invalidationProperties, ObjectMapper objectMapper) {
+        return new PostgresInvalidationBus(dataSource, dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), invalidationProperties.channel(), objectMapper);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.outbox.FileLogOutboxSink;
+import com.example.taskmanager.outbox.InMemoryOutboxBroker;
+import com.example.taskmanager.outbox.LoggingOutboxSink;
+import com.example.taskmanager.outbox.OutboxProperties;
+import com.example.taskmanager.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.outbox.sink", havingValue = "log", matchIfMissing = true)
+    public OutboxSink loggingOutboxSink() {
+        return new LoggingOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.outbox.sink", havingValue = "memory")
+    public InMemoryOutboxBroker inMemoryOutboxBroker(OutboxProperties outboxProperties) {
+        return new InMemoryOutboxBroker(outboxProperties.memoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.outbox.sink", havingValue = "file")
+    public OutboxSink fileLogOutboxSink(OutboxProperties outboxProperties, ObjectMapper objectMapper) {
+        return new FileLogOutboxSink(outboxProperties.filePath(), objectMapper);
+    }
+}
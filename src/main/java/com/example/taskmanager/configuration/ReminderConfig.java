@@ -0,0 +1,27 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.reminder.InMemoryReminderSink;
+import com.example.taskmanager.reminder.LoggingReminderSink;
+import com.example.taskmanager.reminder.ReminderProperties;
+import com.example.taskmanager.reminder.ReminderSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReminderProperties.class)
+public class ReminderConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.reminders.sink", havingValue = "log", matchIfMissing = true)
+    public ReminderSink loggingReminderSink() {
+        return new LoggingReminderSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.reminders.sink", havingValue = "memory")
+    public InMemoryReminderSink inMemoryReminderSink() {
+        return new InMemoryReminderSink();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.tenant.TenantBudgets;
+import com.example.taskmanager.tenant.TenantConnectionBudgetDataSource;
+import com.example.taskmanager.tenant.TenantProperties;
+import com.example.taskmanager.tenant.TenantRequestFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(TenantProperties.class)
+public class TenantConfig {
+
+    @Bean
+    public TenantBudgets tenantBudgets(TenantProperties tenantProperties, MeterRegistry meterRegistry) {
+        return new TenantBudgets(tenantProperties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TenantRequestFilter> tenantRequestFilter(TenantProperties tenantProperties, TenantBudgets tenantBudgets, ObjectMapper objectMapper) {
+        FilterRegistrationBean<TenantRequestFilter> registration = new FilterRegistrationBean<>(new TenantRequestFilter(tenantProperties, tenantBudgets, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor tenantConnectionBudgetPostProcessor(ObjectProvider<TenantBudgets> tenantBudgets) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TenantConnectionBudgetDataSource)) {
+                    return new TenantConnectionBudgetDataSource(dataSource, tenantBudgets);
+                }
+                return bean;
+            }
+        };
+    }
+}
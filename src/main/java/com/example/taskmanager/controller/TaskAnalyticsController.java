@@ -0,0 +1,47 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.TaskAnalyticsBucket;
+import com.example.taskmanager.exception.WrongRequestException;
+import com.example.taskmanager.model.RollupGranularity;
+import com.example.taskmanager.service.TaskAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/tasks/analytics")
+@Tag(name = "Task analytics", description = "API for task throughput charts")
+public class TaskAnalyticsController {
+    private final TaskAnalyticsService taskAnalyticsService;
+
+    public TaskAnalyticsController(TaskAnalyticsService taskAnalyticsService) {
+        this.taskAnalyticsService = taskAnalyticsService;
+    }
+
+    @Operation(summary = "Get task throughput", description = "Returns tasks created and status transitions per time bucket, served from rollups")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Throughput computed"), @ApiResponse(responseCode = "400", description = "Invalid bucket or range")})
+    @GetMapping
+    public ResponseEntity<List<TaskAnalyticsBucket>> getThroughput(
+            @Parameter(description = "Bucket size: hour or day") @RequestParam(defaultValue = "hour") String bucket,
+            @Parameter(description = "Start of the range, inclusive") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, exclusive") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to){
+        RollupGranularity granularity;
+        try {
+            granularity = RollupGranularity.valueOf(bucket.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new WrongRequestException("Unsupported bucket: " + bucket);
+        }
+        return ResponseEntity.ok(taskAnalyticsService.getThroughput(granularity, from, to));
+    }
+}
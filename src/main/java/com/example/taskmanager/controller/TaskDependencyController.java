@@ -0,0 +1,60 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.TaskDependencyResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.service.TaskDependencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tasks/{id}")
+@Tag(name = "Task dependencies", description = "API for managing dependencies between tasks")
+public class TaskDependencyController {
+    private final TaskDependencyService taskDependencyService;
+
+    public TaskDependencyController(TaskDependencyService taskDependencyService) {
+        this.taskDependencyService = taskDependencyService;
+    }
+
+    @Operation(summary = "Add blocker", description = "Marks the task as blocked by another task")
+    @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Dependency added"), @ApiResponse(responseCode = "400", description = "Dependency would create a cycle"), @ApiResponse(responseCode = "404", description = "Task not found")})
+    @PostMapping("/blockers/{blockerId}")
+    public ResponseEntity<TaskDependencyResponse> addBlocker(@Parameter(description = "ID of the blocked task") @PathVariable Long id, @Parameter(description = "ID of the blocking task") @PathVariable Long blockerId){
+        TaskDependencyResponse created = taskDependencyService.addDependency(id, blockerId);
+        URI uri = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .build()
+                .toUri();
+        return ResponseEntity.created(uri).body(created);
+    }
+
+    @Operation(summary = "Remove blocker", description = "Removes a dependency between two tasks")
+    @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Dependency removed"), @ApiResponse(responseCode = "404", description = "Dependency not found")})
+    @DeleteMapping("/blockers/{blockerId}")
+    public ResponseEntity<Void> removeBlocker(@Parameter(description = "ID of the blocked task") @PathVariable Long id, @Parameter(description = "ID of the blocking task") @PathVariable Long blockerId){
+        taskDependencyService.removeDependency(id, blockerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get blockers", description = "Returns all tasks that directly or transitively block the task")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Blockers found"), @ApiResponse(responseCode = "404", description = "Task not found")})
+    @GetMapping("/blockers")
+    public ResponseEntity<List<TaskResponse>> getBlockers(@Parameter(description = "ID of the task") @PathVariable Long id){
+        return ResponseEntity.ok(taskDependencyService.getTransitiveBlockers(id));
+    }
+
+    @Operation(summary = "Get execution plan", description = "Returns the task and its transitive blockers in topological order, blockers first")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Plan built"), @ApiResponse(responseCode = "404", description = "Task not found")})
+    @GetMapping("/plan")
+    public ResponseEntity<List<TaskResponse>> getPlan(@Parameter(description = "ID of the task") @PathVariable Long id){
+        return ResponseEntity.ok(taskDependencyService.getPlan(id));
+    }
+}
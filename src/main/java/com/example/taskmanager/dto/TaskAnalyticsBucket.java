@@ -0,0 +1,18 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "Task throughput within one time bucket")
+public record TaskAnalyticsBucket(
+        @Schema(description = "Start of the bucket", example = "2025-01-01T09:00:00")
+        LocalDateTime bucketStart,
+        @Schema(description = "Tasks created in the bucket", example = "12")
+        long created,
+        @Schema(description = "Tasks that reached DONE in the bucket", example = "7")
+        long completed,
+        @Schema(description = "Tasks that entered each status in the bucket, creations included")
+        Map<TaskStatus, Long> entered
+) {}
@@ -0,0 +1,11 @@
+package com.example.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Dependency between two tasks")
+public record TaskDependencyResponse(
+        @Schema(description = "ID of the task that must be done first", example = "1")
+        Long blockerId,
+        @Schema(description = "ID of the task that waits for the blocker", example = "2")
+        Long blockedId
+) {}
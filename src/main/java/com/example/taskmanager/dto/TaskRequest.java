@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
 
 @Schema(description = "Request for creating or updating a task")
 public record TaskRequest(
@@ -19,5 +20,8 @@ public record TaskRequest(
 
         @Schema(description = "Task status", example = "IN_PROGRESS")
         @NotNull(message = "Status is required")
-        TaskStatus status
+        TaskStatus status,
+
+        @Schema(description = "Time by which the task should be done", example = "2025-06-30T17:00:00")
+        LocalDateTime dueAt
 ) {}
\ No newline at end of file
@@ -15,6 +15,8 @@ public record TaskResponse(
         @Schema(description = "Task status", example = "IN_PROGRESS")
         TaskStatus status,
         @Schema(description = "Creation timestamp")
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        @Schema(description = "Due date")
+        LocalDateTime dueAt
 
 ) {}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Published by the service layer inside the transaction that creates, updates or deletes a task.
+ * {@code version} is the task's row version after the change, or the deleted version for deletions.
+ * {@code task} holds the state after the change and is {@code null} for deletions;
+ * {@code previousStatus} and {@code previousDueAt} describe the task before the change and are
+ * {@code null} for creations. {@code occurredAt} is the time the change was recorded on the task.
+ */
+public record TaskChangedEvent(
+        String tenantId,
+        Long taskId,
+        Type type,
+        Long version,
+        TaskResponse task,
+        TaskStatus previousStatus,
+        LocalDateTime previousDueAt,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
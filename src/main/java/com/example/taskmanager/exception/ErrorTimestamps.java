@@ -0,0 +1,26 @@
+package com.example.taskmanager.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Millisecond-resolution timestamp for error bodies that reuses the last {@link LocalDateTime}
+ * while the clock has not moved, instead of building a new one for every error.
+ */
+final class ErrorTimestamps {
+
+    private static volatile Stamp last = new Stamp(System.currentTimeMillis(), LocalDateTime.now());
+
+    private ErrorTimestamps() {}
+
+    static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        Stamp stamp = last;
+        if (stamp.millis() != millis) {
+            stamp = new Stamp(millis, LocalDateTime.now());
+            last = stamp;
+        }
+        return stamp.time();
+    }
+
+    private record Stamp(long millis, LocalDateTime time) {}
+}
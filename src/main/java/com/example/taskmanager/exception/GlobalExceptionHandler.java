@@ -1,16 +1,17 @@
 package com.example.taskmanager.exception;
 
 import com.example.taskmanager.dto.ApiError;
+import com.example.taskmanager.tenant.TenantBudgetExceededException;
+import com.example.taskmanager.tenant.TenantBudgets;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.ServletWebRequest;
-import org.springframework.web.context.request.WebRequest;
-import java.time.LocalDateTime;
 import java.util.List;
 import org.slf4j.Logger;
 import java.util.stream.Collectors;
@@ -19,30 +20,41 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final int WARNINGS_PER_WINDOW = 20;
+    private static final long WARNING_WINDOW_MILLIS = 1_000;
+
+    private final RateLimitedLogger notFoundLog = new RateLimitedLogger(log, "Resource not found", WARNINGS_PER_WINDOW, WARNING_WINDOW_MILLIS);
+    private final RateLimitedLogger wrongRequestLog = new RateLimitedLogger(log, "Wrong request", WARNINGS_PER_WINDOW, WARNING_WINDOW_MILLIS);
+    private final RateLimitedLogger validationLog = new RateLimitedLogger(log, "Validation failed", WARNINGS_PER_WINDOW, WARNING_WINDOW_MILLIS);
+    private final RateLimitedLogger throttledLog = new RateLimitedLogger(log, "Tenant throttled", WARNINGS_PER_WINDOW, WARNING_WINDOW_MILLIS);
 
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ApiError> handleResourceNotFoundException(ResourceNotFoundException ex, WebRequest request) {
+    public ResponseEntity<ApiError> handleResourceNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
         ApiError apiError = createApiError(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), request);
-        log.warn("Resource not found: {}", ex.getMessage());
+        notFoundLog.warn("Resource not found: {}", ex.getMessage());
         return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(WrongRequestException.class)
-    public ResponseEntity<ApiError> handleWrongRequestException(WrongRequestException ex, WebRequest request) {
+    public ResponseEntity<ApiError> handleWrongRequestException(WrongRequestException ex, HttpServletRequest request) {
         ApiError apiError = createApiError(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), request);
-        log.warn("Wrong request: {}", ex.getMessage());
+        wrongRequestLog.warn("Wrong request: {}", ex.getMessage());
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(InternalServerException.class)
-    public ResponseEntity<ApiError> handleInternalServerException(InternalServerException ex, WebRequest request) {
+    public ResponseEntity<ApiError> handleInternalServerException(InternalServerException ex, HttpServletRequest request) {
+        TenantBudgetExceededException budgetExceeded = findCause(ex, TenantBudgetExceededException.class);
+        if (budgetExceeded != null) {
+            return tooManyRequests(budgetExceeded, request);
+        }
         ApiError apiError = createApiError(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage(), request);
         log.error("Internal server error: {}", ex.getMessage(), ex);
         return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ApiError> handleValidationExceptions(MethodArgumentNotValidException ex, WebRequest request) {
+    public ResponseEntity<ApiError> handleValidationExceptions(MethodArgumentNotValidException ex, HttpServletRequest request) {
         List<ApiError.ValidationError> validationErrors = ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
@@ -53,19 +65,19 @@ public class GlobalExceptionHandler {
                 ))
                 .collect(Collectors.toList());
         ApiError apiError = new ApiError(
-                LocalDateTime.now(),
+                ErrorTimestamps.now(),
                 HttpStatus.BAD_REQUEST.value(),
                 "Validation Failed",
                 "Validation failed for one or more fields",
-                getRequestPath(request)
+                request.getRequestURI()
         );
         apiError.setValidationErrors(validationErrors);
-        log.warn("Validation failed: {}", validationErrors);
+        validationLog.warn("Validation failed: {}", validationErrors);
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ApiError> handleConstraintViolationException(ConstraintViolationException ex, WebRequest request) {
+    public ResponseEntity<ApiError> handleConstraintViolationException(ConstraintViolationException ex, HttpServletRequest request) {
         List<ApiError.ValidationError> validationErrors = ex.getConstraintViolations()
                 .stream()
                 .map(violation -> new ApiError.ValidationError(
@@ -76,36 +88,47 @@ public class GlobalExceptionHandler {
                 .collect(Collectors.toList());
 
         ApiError apiError = new ApiError(
-                LocalDateTime.now(),
+                ErrorTimestamps.now(),
                 HttpStatus.BAD_REQUEST.value(),
                 "Constraint Violation",
                 "Constraint violation for one or more fields",
-                getRequestPath(request)
+                request.getRequestURI()
         );
         apiError.setValidationErrors(validationErrors);
-        log.warn("Constraint violation: {}", validationErrors);
+        validationLog.warn("Constraint violation: {}", validationErrors);
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiError> handleAllUncaughtException(Exception ex, WebRequest request) {
+    public ResponseEntity<ApiError> handleAllUncaughtException(Exception ex, HttpServletRequest request) {
+        TenantBudgetExceededException budgetExceeded = findCause(ex, TenantBudgetExceededException.class);
+        if (budgetExceeded != null) {
+            return tooManyRequests(budgetExceeded, request);
+        }
         ApiError apiError = createApiError(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred", request);
         log.error("Unexpected error occurred: ", ex);
         return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
-    private String getRequestPath(WebRequest request) {
-        if (request instanceof ServletWebRequest) {
-            return ((ServletWebRequest) request).getRequest().getRequestURI();
+    // The budget is enforced by the data source, so the exception arrives wrapped by whichever layer asked for the connection.
+    private ResponseEntity<ApiError> tooManyRequests(TenantBudgetExceededException ex, HttpServletRequest request) {
+        ApiError apiError = createApiError(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage(), request);
+        throttledLog.warn("Tenant throttled: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(TenantBudgets.RETRY_AFTER_SECONDS))
+                .body(apiError);
+    }
+
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
         }
         return null;
     }
 
-    private ApiError createApiError(HttpStatus status, String error, String message, WebRequest request) {
-        String path = null;
-        if (request instanceof ServletWebRequest) {
-            path = ((ServletWebRequest) request).getRequest().getRequestURI();
-        }
-        return new ApiError(LocalDateTime.now(), status.value(), error, message, path);
+    private ApiError createApiError(HttpStatus status, String error, String message, HttpServletRequest request) {
+        return new ApiError(ErrorTimestamps.now(), status.value(), error, message, request.getRequestURI());
     }
 }
\ No newline at end of file
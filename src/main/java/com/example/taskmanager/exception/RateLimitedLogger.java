@@ -0,0 +1,52 @@
+package com.example.taskmanager.exception;
+
+import org.slf4j.Logger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets through at most a fixed number of warnings per time window and counts the rest, reporting
+ * the count once the next window opens. Keeps log I/O bounded during error floods.
+ */
+class RateLimitedLogger {
+
+    private final Logger log;
+    private final String category;
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    RateLimitedLogger(Logger log, String category, int permitsPerWindow, long windowMillis) {
+        this.log = log;
+        this.category = category;
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = windowMillis * 1_000_000;
+    }
+
+    void warn(String format, Object argument) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+            long dropped = suppressed.sumThenReset();
+            if (dropped > 0) {
+                log.warn("Suppressed {} '{}' warnings", dropped, category);
+            }
+        }
+        if (used.incrementAndGet() <= permitsPerWindow) {
+            log.warn(format, argument);
+        } else {
+            suppressed.increment();
+        }
+    }
+
+    long suppressedCount() {
+        return suppressed.sum();
+    }
+}
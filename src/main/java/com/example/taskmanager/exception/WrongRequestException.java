@@ -3,15 +3,18 @@ package com.example.taskmanager.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Rejected client input. Stack trace capture is disabled; the message carries everything needed.
+ */
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class WrongRequestException extends RuntimeException{
 
     public WrongRequestException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public WrongRequestException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
 }
@@ -0,0 +1,41 @@
+package com.example.taskmanager.invalidation;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Delivers messages synchronously to every subscriber in the same JVM once the publishing
+ * transaction has committed. Serves single-node setups and tests, where several application
+ * contexts can share one instance.
+ */
+public class InProcessInvalidationBus implements InvalidationBus {
+
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(message);
+                }
+            });
+        } else {
+            deliver(message);
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(InvalidationMessage message) {
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidation(message);
+        }
+    }
+}
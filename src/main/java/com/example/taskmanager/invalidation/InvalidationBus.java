@@ -0,0 +1,18 @@
+package com.example.taskmanager.invalidation;
+
+/**
+ * Broadcasts task invalidations between nodes. Delivery is best effort: a message can be lost
+ * when a node disconnects, which is why caches fed by the bus must also expire entries on their
+ * own. Messages are delivered to the publishing node as well.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Called inside the transaction that made the change, before it commits. The message must
+     * reach subscribers only once that transaction has committed, and never if it rolls back.
+     */
+    void publish(InvalidationMessage message);
+
+    void subscribe(InvalidationListener listener);
+
+}
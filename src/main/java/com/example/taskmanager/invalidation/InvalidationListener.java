@@ -0,0 +1,13 @@
+package com.example.taskmanager.invalidation;
+
+public interface InvalidationListener {
+
+    void onInvalidation(InvalidationMessage message);
+
+    /**
+     * Called when messages may have been lost, for example after the bus reconnects. Anything
+     * cached from before must be treated as stale.
+     */
+    void onReset();
+
+}
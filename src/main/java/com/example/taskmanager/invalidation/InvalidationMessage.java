@@ -0,0 +1,13 @@
+package com.example.taskmanager.invalidation;
+
+/**
+ * Announces a committed task change to every node. {@code version} is the task's row version
+ * after the change; {@code origin} identifies the node that made it.
+ */
+public record InvalidationMessage(
+        String origin,
+        String tenantId,
+        Long taskId,
+        long version,
+        boolean deleted
+) {}
@@ -0,0 +1,28 @@
+package com.example.taskmanager.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "taskmanager.invalidation")
+public record InvalidationProperties(
+        String bus,
+        String channel,
+        Duration nearCacheTtl,
+        Integer nearCacheMaxEntries
+) {
+
+    public InvalidationProperties {
+        if (bus == null) {
+            bus = "in-process";
+        }
+        if (channel == null) {
+            channel = "task_invalidation";
+        }
+        if (nearCacheTtl == null) {
+            nearCacheTtl = Duration.ofSeconds(2);
+        }
+        if (nearCacheMaxEntries == null) {
+            nearCacheMaxEntries = 10_000;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanager.invalidation;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.service.TaskNearCache;
+import com.example.taskmanager.web.TaskListResponseCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.UUID;
+
+/**
+ * Announces task changes on the {@link InvalidationBus} from inside the writing transaction,
+ * applies them to this node's caches once committed, and applies the changes announced by other
+ * nodes.
+ */
+@Component
+public class TaskInvalidationRelay implements InvalidationListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationBus invalidationBus;
+    private final TaskNearCache taskNearCache;
+    private final TaskListResponseCache taskListResponseCache;
+
+    public TaskInvalidationRelay(InvalidationBus invalidationBus, TaskNearCache taskNearCache, TaskListResponseCache taskListResponseCache) {
+        this.invalidationBus = invalidationBus;
+        this.taskNearCache = taskNearCache;
+        this.taskListResponseCache = taskListResponseCache;
+        invalidationBus.subscribe(this);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void announce(TaskChangedEvent event) {
+        invalidationBus.publish(new InvalidationMessage(nodeId, event.tenantId(), event.taskId(), version(event), isDeleted(event)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        taskNearCache.invalidate(event.tenantId(), event.taskId(), version(event), isDeleted(event));
+    }
+
+    @Override
+    public void onInvalidation(InvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        taskNearCache.invalidate(message.tenantId(), message.taskId(), message.version(), message.deleted());
+        taskListResponseCache.invalidate(message.tenantId());
+    }
+
+    @Override
+    public void onReset() {
+        taskNearCache.clear();
+        taskListResponseCache.invalidateAll();
+    }
+
+    private static long version(TaskChangedEvent event) {
+        return event.version() != null ? event.version() : 0;
+    }
+
+    private static boolean isDeleted(TaskChangedEvent event) {
+        return event.type() == TaskChangedEvent.Type.DELETED;
+    }
+}
@@ -10,7 +10,7 @@ public class TaskMapperImpl implements TaskMapper {
 
     @Override
     public TaskResponse entityToDTO(Task task) {
-        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getCreatedAt());
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getCreatedAt(), task.getDueAt());
     }
 
     @Override
@@ -19,6 +19,7 @@ public class TaskMapperImpl implements TaskMapper {
         task.setTitle(taskRequest.title());
         task.setDescription(taskRequest.description());
         task.setStatus(taskRequest.status());
+        task.setDueAt(taskRequest.dueAt());
         return task;
     }
 
@@ -33,5 +34,8 @@ public class TaskMapperImpl implements TaskMapper {
         if (taskRequest.status() != null) {
             task.setStatus(taskRequest.status());
         }
+        if (taskRequest.dueAt() != null) {
+            task.setDueAt(taskRequest.dueAt());
+        }
     }
 }
\ No newline at end of file
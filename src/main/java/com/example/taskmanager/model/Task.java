@@ -1,12 +1,35 @@
 package com.example.taskmanager.model;
 
+import com.example.taskmanager.tenant.TenantContext;
+import com.example.taskmanager.tenant.TenantIdResolver;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_tenant_id", columnList = "tenant_id, id"),
+                @Index(name = "idx_tasks_tenant_status", columnList = "tenant_id, status"),
+                @Index(name = "idx_tasks_tenant_created_at", columnList = "tenant_id, created_at"),
+                @Index(name = "idx_tasks_due_at", columnList = "due_at, id")
+        }
+)
+@FilterDef(
+        name = Task.TENANT_FILTER,
+        defaultCondition = "tenant_id = :tenantId",
+        parameters = @ParamDef(name = "tenantId", type = String.class, resolver = TenantIdResolver.class),
+        autoEnabled = true,
+        applyToLoadByKey = true
+)
+@Filter(name = Task.TENANT_FILTER)
 public class Task {
 
+    public static final String TENANT_FILTER = "tenantFilter";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,9 +47,32 @@ public class Task {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        statusChangedAt = createdAt;
+        if (status == TaskStatus.DONE) {
+            completedAt = createdAt;
+        }
+        if (tenantId == null) {
+            tenantId = TenantContext.current();
+        }
     }
 
     public Long getId() {
@@ -69,6 +115,46 @@ public class Task {
         this.createdAt = createdAt;
     }
 
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) {
+        this.statusChangedAt = statusChangedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Task() {}
 
     public Task(Long id, String title, String description, TaskStatus status, LocalDateTime createdAt) {
@@ -0,0 +1,78 @@
+package com.example.taskmanager.model;
+
+import com.example.taskmanager.tenant.TenantContext;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
+
+@Entity
+@Table(
+        name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_edge", columnNames = {"blocker_id", "blocked_id"}),
+        indexes = {
+                @Index(name = "idx_task_dependencies_blocked", columnList = "blocked_id"),
+                @Index(name = "idx_task_dependencies_tenant_id", columnList = "tenant_id, id")
+        }
+)
+@Filter(name = Task.TENANT_FILTER)
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    @Column(name = "blocked_id", nullable = false)
+    private Long blockedId;
+
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @PrePersist
+    protected void onCreate() {
+        if (tenantId == null) {
+            tenantId = TenantContext.current();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getBlockerId() {
+        return blockerId;
+    }
+
+    public void setBlockerId(Long blockerId) {
+        this.blockerId = blockerId;
+    }
+
+    public Long getBlockedId() {
+        return blockedId;
+    }
+
+    public void setBlockedId(Long blockedId) {
+        this.blockedId = blockedId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public TaskDependency() {}
+
+    public TaskDependency(Long blockerId, Long blockedId) {
+        this.blockerId = blockerId;
+        this.blockedId = blockedId;
+    }
+
+}
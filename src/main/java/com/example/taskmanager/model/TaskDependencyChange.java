@@ -0,0 +1,93 @@
+package com.example.taskmanager.model;
+
+import jakarta.persistence.*;
+
+/**
+ * One committed edge change, stored under the {@link TaskDependencyRevision} it produced. Nodes
+ * whose in-memory graph is a few revisions behind replay these rows instead of reading every edge.
+ */
+@Entity
+@Table(
+        name = "task_dependency_changes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependency_changes_revision", columnNames = {"tenant_id", "revision"})
+)
+public class TaskDependencyChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(nullable = false, updatable = false)
+    private long revision;
+
+    @Column(name = "blocker_id", nullable = false, updatable = false)
+    private long blockerId;
+
+    @Column(name = "blocked_id", nullable = false, updatable = false)
+    private long blockedId;
+
+    @Column(nullable = false, updatable = false)
+    private boolean added;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public long getBlockerId() {
+        return blockerId;
+    }
+
+    public void setBlockerId(long blockerId) {
+        this.blockerId = blockerId;
+    }
+
+    public long getBlockedId() {
+        return blockedId;
+    }
+
+    public void setBlockedId(long blockedId) {
+        this.blockedId = blockedId;
+    }
+
+    public boolean isAdded() {
+        return added;
+    }
+
+    public void setAdded(boolean added) {
+        this.added = added;
+    }
+
+    public TaskDependencyChange() {}
+
+    public TaskDependencyChange(String tenantId, long revision, long blockerId, long blockedId, boolean added) {
+        this.tenantId = tenantId;
+        this.revision = revision;
+        this.blockerId = blockerId;
+        this.blockedId = blockedId;
+        this.added = added;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.taskmanager.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Per-tenant counter of dependency graph changes. Every edge change locks the tenant's row and
+ * increments it, which serializes cycle checks across nodes and tells each node when its
+ * in-memory copy of the graph is out of date.
+ */
+@Entity
+@Table(name = "task_dependency_revisions")
+public class TaskDependencyRevision {
+
+    @Id
+    @Column(name = "tenant_id", length = 64)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public TaskDependencyRevision() {}
+
+    public TaskDependencyRevision(String tenantId, long revision) {
+        this.tenantId = tenantId;
+        this.revision = revision;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanager.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process broker that hands every published message to local subscribers and keeps only the
+ * most recent {@code capacity} of them for inspection. Serves as the broker stand-in for tests.
+ */
+public class InMemoryOutboxBroker implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+    private final List<Consumer<OutboxMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    public InMemoryOutboxBroker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        synchronized (messages) {
+            for (OutboxMessage message : batch) {
+                if (messages.size() == capacity) {
+                    messages.removeFirst();
+                }
+                messages.addLast(message);
+            }
+        }
+        for (OutboxMessage message : batch) {
+            for (Consumer<OutboxMessage> subscriber : subscribers) {
+                subscriber.accept(message);
+            }
+        }
+    }
+
+    public void subscribe(Consumer<OutboxMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Returns the retained messages, oldest first.
+     */
+    public List<OutboxMessage> getMessages() {
+        synchronized (messages) {
+            return List.copyOf(messages);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanager.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.List;
+
+/**
+ * Writes each message to the application log at debug level. The default sink until a real broker
+ * is configured: it keeps nothing in memory, so an unattended node cannot run out of heap.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        if (log.isDebugEnabled()) {
+            for (OutboxMessage message : messages) {
+                log.debug("{} for task {} of tenant {}: {}", message.eventType(), message.taskId(), message.tenantId(), message.payload());
+            }
+        }
+    }
+}
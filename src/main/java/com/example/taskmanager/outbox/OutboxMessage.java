@@ -0,0 +1,12 @@
+package com.example.taskmanager.outbox;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(
+        Long id,
+        String tenantId,
+        Long taskId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {}
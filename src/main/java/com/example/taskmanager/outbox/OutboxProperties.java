@@ -0,0 +1,33 @@
+package com.example.taskmanager.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "taskmanager.outbox")
+public record OutboxProperties(
+        String sink,
+        Integer batchSize,
+        Duration retention,
+        Path filePath,
+        Integer memoryCapacity
+) {
+
+    public OutboxProperties {
+        if (sink == null) {
+            sink = "log";
+        }
+        if (batchSize == null) {
+            batchSize = 100;
+        }
+        if (retention == null) {
+            retention = Duration.ofDays(1);
+        }
+        if (filePath == null) {
+            filePath = Path.of("outbox", "task-events.log");
+        }
+        if (memoryCapacity == null) {
+            memoryCapacity = 1000;
+        }
+    }
+}
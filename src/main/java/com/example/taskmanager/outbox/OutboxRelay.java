@@ -0,0 +1,117 @@
+package com.example.taskmanager.outbox;
+
+import com.example.taskmanager.model.OutboxEvent;
+import com.example.taskmanager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves unpublished outbox events to the configured {@link OutboxSink} in batches. Each batch is
+ * claimed with row locks that concurrent relays skip, published, and marked in one transaction,
+ * so a failed publish leaves the batch to be retried.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedEvents;
+    private final Counter failedBatches;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink, OutboxProperties properties, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.publishedEvents = Counter.builder("tasks.outbox.published")
+                .description("Outbox events delivered to the sink")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("tasks.outbox.failed")
+                .description("Outbox batches that failed to publish and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.outbox.relay-interval-ms:500}")
+    public void relayPending() {
+        try {
+            int delivered;
+            do {
+                delivered = transactionTemplate.execute(status -> relayBatch());
+            } while (delivered == properties.batchSize());
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.warn("Outbox relay failed, batch will be retried", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.outbox.prune-interval-ms:60000}")
+    public void prunePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        Integer pruned = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+        if (pruned != null && pruned > 0) {
+            log.info("Pruned {} published outbox events", pruned);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> claimed = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(properties.batchSize()));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<OutboxEvent> deliverable = withoutOlderPendingEvents(claimed);
+        if (!deliverable.isEmpty()) {
+            List<OutboxMessage> messages = new ArrayList<>(deliverable.size());
+            List<Long> ids = new ArrayList<>(deliverable.size());
+            for (OutboxEvent event : deliverable) {
+                messages.add(new OutboxMessage(event.getId(), event.getTenantId(), event.getAggregateId(), event.getEventType(), event.getPayload(), event.getCreatedAt()));
+                ids.add(event.getId());
+            }
+            try {
+                outboxSink.publish(messages);
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink failed", e);
+            }
+            outboxEventRepository.markPublished(ids, LocalDateTime.now());
+            publishedEvents.increment(messages.size());
+        }
+        return deliverable.size();
+    }
+
+    /**
+     * Drops events whose task still has an older unpublished event outside this batch, which means
+     * another relay holds it. Delivering them now would overtake that event.
+     */
+    private List<OutboxEvent> withoutOlderPendingEvents(List<OutboxEvent> claimed) {
+        Map<Long, Long> oldestClaimed = new HashMap<>();
+        for (OutboxEvent event : claimed) {
+            oldestClaimed.putIfAbsent(event.getAggregateId(), event.getId());
+        }
+        Map<Long, Long> oldestPending = new HashMap<>();
+        for (Object[] row : outboxEventRepository.findOldestUnpublishedIds(oldestClaimed.keySet())) {
+            oldestPending.put((Long) row[0], (Long) row[1]);
+        }
+        List<OutboxEvent> deliverable = new ArrayList<>(claimed.size());
+        for (OutboxEvent event : claimed) {
+            Long pending = oldestPending.get(event.getAggregateId());
+            if (pending == null || pending >= oldestClaimed.get(event.getAggregateId())) {
+                deliverable.add(event);
+            }
+        }
+        return deliverable;
+    }
+}
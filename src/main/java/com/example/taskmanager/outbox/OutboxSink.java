@@ -0,0 +1,14 @@
+package com.example.taskmanager.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Messages arrive in id order, so events of the same task
+ * are delivered in the order they were written. Delivery is at least once: a failed batch is
+ * retried, so sinks must tolerate duplicates.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+
+}
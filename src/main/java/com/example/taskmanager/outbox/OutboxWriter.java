@@ -0,0 +1,39 @@
+package com.example.taskmanager.outbox;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InternalServerException;
+import com.example.taskmanager.model.OutboxEvent;
+import com.example.taskmanager.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+/**
+ * Writes an outbox row for every task change. The listener runs synchronously in the publishing
+ * transaction, so the row commits or rolls back together with the change itself.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Object body = event.task() != null ? event.task() : Map.of("id", event.taskId());
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException("Failed to serialize task event", e);
+        }
+        outboxEventRepository.save(new OutboxEvent(event.tenantId(), event.taskId(), "TASK_" + event.type().name(), payload));
+    }
+}
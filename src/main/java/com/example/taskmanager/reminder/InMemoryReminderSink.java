@@ -0,0 +1,25 @@
+package com.example.taskmanager.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps every fired reminder in memory. Serves as the sink for tests and local runs.
+ */
+public class InMemoryReminderSink implements ReminderSink {
+
+    private final List<TaskReminder> reminders = new ArrayList<>();
+
+    @Override
+    public synchronized void overdue(TaskReminder reminder) {
+        reminders.add(reminder);
+    }
+
+    public synchronized List<TaskReminder> getReminders() {
+        return List.copyOf(reminders);
+    }
+
+    public synchronized void clear() {
+        reminders.clear();
+    }
+}
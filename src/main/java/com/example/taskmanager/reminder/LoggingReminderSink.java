@@ -0,0 +1,14 @@
+package com.example.taskmanager.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void overdue(TaskReminder reminder) {
+        log.info("Task {} of tenant {} is overdue since {}", reminder.taskId(), reminder.tenantId(), reminder.dueAt());
+    }
+}
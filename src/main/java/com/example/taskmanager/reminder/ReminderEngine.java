@@ -0,0 +1,335 @@
+package com.example.taskmanager.reminder;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.invalidation.InvalidationBus;
+import com.example.taskmanager.invalidation.InvalidationListener;
+import com.example.taskmanager.invalidation.InvalidationMessage;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fires a reminder through the {@link ReminderSink} when a task that is not done passes its due
+ * date. Only tasks due within the next {@code window} are held in memory: each window is read
+ * from the due date index in keyset pages across all tenants, and committed task changes re-arm
+ * or cancel their timer directly. Timers live in a {@link TimingWheel} with one-second ticks.
+ * Tasks that became overdue more than {@code catchUp} before startup are not reported.
+ *
+ * <p>Changes committed on other nodes arrive through the {@link InvalidationBus}: the tasks they
+ * name are re-read on the next tick and their timers re-armed, and a bus reset reloads the whole
+ * window. Because bus messages can be lost, every expired timer is also checked against the
+ * database before the reminder is sent.
+ */
+@Component
+public class ReminderEngine implements InvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderEngine.class);
+    private static final long TICK_MILLIS = 1_000;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ReminderSink reminderSink;
+    private final ReminderProperties properties;
+    private final Counter firedReminders;
+    private final Object tickLock = new Object();
+
+    private final TimingWheel<TaskReminder> wheel = new TimingWheel<>(toTick(LocalDateTime.now()));
+    private final Map<Long, TimingWheel.Timer<TaskReminder>> timers = new HashMap<>();
+    private final Set<Long> changedWhileLoading = new HashSet<>();
+    private Set<Long> changedElsewhere = new HashSet<>();
+    private LocalDateTime loadedUntil;
+    private boolean loading;
+    private boolean reloadRequested;
+
+    public ReminderEngine(TaskRepository taskRepository, EntityManager entityManager, TransactionTemplate transactionTemplate, ReminderSink reminderSink, ReminderProperties properties, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.reminderSink = reminderSink;
+        this.properties = properties;
+        this.firedReminders = Counter.builder("tasks.reminders.fired")
+                .description("Due date reminders delivered to the sink")
+                .register(meterRegistry);
+        Gauge.builder("tasks.reminders.pending", this, ReminderEngine::pendingCount)
+                .description("Reminders scheduled within the loaded window")
+                .register(meterRegistry);
+        invalidationBus.subscribe(this);
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.reminders.tick-ms:1000}")
+    public void tick() {
+        if (!properties.enabled()) {
+            return;
+        }
+        synchronized (tickLock) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime until = now.plus(properties.window());
+            LocalDateTime from;
+            boolean reload;
+            Set<Long> changed;
+            synchronized (this) {
+                from = loadedUntil;
+                reload = reloadRequested;
+                reloadRequested = false;
+                changed = changedElsewhere;
+                changedElsewhere = new HashSet<>();
+            }
+            if (from == null) {
+                loadWindow(now.minus(properties.catchUp()), until, null);
+            } else if (reload && !loadWindow(now, until, from)) {
+                synchronized (this) {
+                    reloadRequested = true;
+                }
+            } else if (!from.isAfter(now.plus(properties.window().dividedBy(2)))) {
+                loadWindow(from, until, from);
+            }
+            if (!changed.isEmpty()) {
+                rearm(changed, now);
+            }
+            List<TaskReminder> due = new ArrayList<>();
+            synchronized (this) {
+                wheel.advanceTo(toTick(now), reminder -> {
+                    timers.remove(reminder.taskId());
+                    due.add(reminder);
+                });
+            }
+            for (TaskReminder reminder : stillDue(due, now)) {
+                try {
+                    reminderSink.overdue(reminder);
+                    firedReminders.increment();
+                } catch (RuntimeException e) {
+                    log.warn("Reminder sink failed for task {}", reminder.taskId(), e);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (loading) {
+            changedWhileLoading.add(event.taskId());
+        }
+        if (loadedUntil == null) {
+            return;
+        }
+        TaskResponse task = event.task();
+        TimingWheel.Timer<TaskReminder> existing = timers.get(event.taskId());
+        if (task == null || task.dueAt() == null || task.status() == TaskStatus.DONE) {
+            cancel(existing, event.taskId());
+            return;
+        }
+        TaskReminder reminder = new TaskReminder(event.tenantId(), event.taskId(), task.dueAt());
+        boolean rearm = event.type() == TaskChangedEvent.Type.CREATED
+                || !task.dueAt().equals(event.previousDueAt())
+                || event.previousStatus() == TaskStatus.DONE;
+        if (!rearm) {
+            // Same deadline: either still pending or already fired, in which case it must not fire again.
+            return;
+        }
+        cancel(existing, event.taskId());
+        if (task.dueAt().isBefore(loadedUntil)) {
+            schedule(reminder);
+        }
+    }
+
+    @Override
+    public synchronized void onInvalidation(InvalidationMessage message) {
+        changedElsewhere.add(message.taskId());
+    }
+
+    @Override
+    public synchronized void onReset() {
+        reloadRequested = true;
+    }
+
+    public synchronized int pendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Reads every reminder due in [{@code from}, {@code until}) page by page. The window end is
+     * published before the first read so changes committed meanwhile are scheduled by
+     * {@link #onTaskChanged} and win over the possibly older rows read here. On failure the window
+     * end is reset to {@code loadedBefore} so the next tick reads the window again.
+     *
+     * @return {@code false} if the window could not be read
+     */
+    private boolean loadWindow(LocalDateTime from, LocalDateTime until, LocalDateTime loadedBefore) {
+        synchronized (this) {
+            loadedUntil = until;
+            loading = true;
+        }
+        int loaded = 0;
+        try {
+            LocalDateTime afterDueAt = from;
+            long afterId = 0;
+            List<TaskReminder> page;
+            do {
+                LocalDateTime pageAfterDueAt = afterDueAt;
+                long pageAfterId = afterId;
+                page = transactionTemplate.execute(status -> {
+                    entityManager.unwrap(Session.class).disableFilter(Task.TENANT_FILTER);
+                    return taskRepository.findRemindersDueBefore(until, pageAfterDueAt, pageAfterId, TaskStatus.DONE, Limit.of(properties.batchSize()));
+                });
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                synchronized (this) {
+                    for (TaskReminder reminder : page) {
+                        if (!changedWhileLoading.contains(reminder.taskId())) {
+                            cancel(timers.get(reminder.taskId()), reminder.taskId());
+                            schedule(reminder);
+                        }
+                    }
+                }
+                loaded += page.size();
+                TaskReminder last = page.get(page.size() - 1);
+                afterDueAt = last.dueAt();
+                afterId = last.taskId();
+            } while (page.size() == properties.batchSize());
+        } catch (RuntimeException e) {
+            log.warn("Loading reminders due before {} failed", until, e);
+            synchronized (this) {
+                loadedUntil = loadedBefore;
+            }
+            return false;
+        } finally {
+            synchronized (this) {
+                loading = false;
+                changedWhileLoading.clear();
+            }
+        }
+        log.debug("Loaded {} reminders due before {}", loaded, until);
+        return true;
+    }
+
+    /**
+     * Re-arms the timers of tasks changed on another node from their current rows. A due date that
+     * already passed is only re-armed if its timer had not expired yet, since the reminder may
+     * already have been sent.
+     */
+    private void rearm(Set<Long> taskIds, LocalDateTime now) {
+        Map<Long, TaskReminder> current;
+        try {
+            current = currentReminders(taskIds);
+        } catch (RuntimeException e) {
+            log.warn("Reading {} tasks changed on other nodes failed", taskIds.size(), e);
+            synchronized (this) {
+                changedElsewhere.addAll(taskIds);
+            }
+            return;
+        }
+        synchronized (this) {
+            for (Long taskId : taskIds) {
+                TaskReminder reminder = current.get(taskId);
+                TimingWheel.Timer<TaskReminder> existing = timers.get(taskId);
+                if (reminder == null) {
+                    cancel(existing, taskId);
+                } else if (existing == null ? !reminder.dueAt().isBefore(now) : !existing.payload().dueAt().equals(reminder.dueAt())) {
+                    cancel(existing, taskId);
+                    if (reminder.dueAt().isBefore(loadedUntil)) {
+                        schedule(reminder);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the expired reminders whose task is still open and, by its stored due date, overdue at
+     * {@code now}. Tasks whose due date has moved past {@code now} are scheduled again instead. The
+     * stored date is compared rather than matched since the column keeps only microseconds. If the
+     * check fails, the reminders are put back to be checked on the next tick.
+     */
+    private List<TaskReminder> stillDue(List<TaskReminder> expired, LocalDateTime now) {
+        if (expired.isEmpty()) {
+            return expired;
+        }
+        Map<Long, TaskReminder> current;
+        try {
+            current = currentReminders(expired.stream().map(TaskReminder::taskId).toList());
+        } catch (RuntimeException e) {
+            log.warn("Checking {} expired reminders failed, retrying on the next tick", expired.size(), e);
+            synchronized (this) {
+                expired.forEach(this::schedule);
+            }
+            return List.of();
+        }
+        List<TaskReminder> due = new ArrayList<>(expired.size());
+        synchronized (this) {
+            for (TaskReminder reminder : expired) {
+                TaskReminder latest = current.get(reminder.taskId());
+                if (latest == null) {
+                    continue;
+                }
+                if (!latest.dueAt().isAfter(now)) {
+                    due.add(latest);
+                } else if (!timers.containsKey(latest.taskId()) && latest.dueAt().isBefore(loadedUntil)) {
+                    schedule(latest);
+                }
+            }
+        }
+        return due;
+    }
+
+    private Map<Long, TaskReminder> currentReminders(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        Map<Long, TaskReminder> current = new HashMap<>();
+        for (int start = 0; start < ids.size(); start += properties.batchSize()) {
+            List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + properties.batchSize()));
+            List<TaskReminder> page = transactionTemplate.execute(status -> {
+                entityManager.unwrap(Session.class).disableFilter(Task.TENANT_FILTER);
+                return taskRepository.findRemindersByIdIn(chunk, TaskStatus.DONE);
+            });
+            if (page != null) {
+                for (TaskReminder reminder : page) {
+                    current.put(reminder.taskId(), reminder);
+                }
+            }
+        }
+        return current;
+    }
+
+    private void schedule(TaskReminder reminder) {
+        long deadline = Math.floorDiv(toEpochMillis(reminder.dueAt()) + TICK_MILLIS - 1, TICK_MILLIS);
+        timers.put(reminder.taskId(), wheel.schedule(deadline, reminder));
+    }
+
+    private void cancel(TimingWheel.Timer<TaskReminder> timer, Long taskId) {
+        if (timer != null) {
+            wheel.cancel(timer);
+            timers.remove(taskId);
+        }
+    }
+
+    private static long toTick(LocalDateTime time) {
+        return Math.floorDiv(toEpochMillis(time), TICK_MILLIS);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanager.reminder;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "taskmanager.reminders")
+public record ReminderProperties(
+        Boolean enabled,
+        String sink,
+        Duration window,
+        Duration catchUp,
+        Integer batchSize
+) {
+
+    public ReminderProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (sink == null) {
+            sink = "log";
+        }
+        if (window == null) {
+            window = Duration.ofMinutes(10);
+        }
+        if (catchUp == null) {
+            catchUp = Duration.ofHours(1);
+        }
+        if (batchSize == null) {
+            batchSize = 1000;
+        }
+    }
+}
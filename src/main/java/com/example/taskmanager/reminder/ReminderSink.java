@@ -0,0 +1,11 @@
+package com.example.taskmanager.reminder;
+
+/**
+ * Receives a reminder once a pending task passes its due date. Called on the reminder scheduler
+ * thread, so implementations should hand slow work off instead of blocking it.
+ */
+public interface ReminderSink {
+
+    void overdue(TaskReminder reminder);
+
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanager.reminder;
+
+import java.time.LocalDateTime;
+
+public record TaskReminder(
+        String tenantId,
+        Long taskId,
+        LocalDateTime dueAt
+) {}
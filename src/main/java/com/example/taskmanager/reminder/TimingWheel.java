@@ -0,0 +1,150 @@
+package com.example.taskmanager.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: level {@code n} has 64 slots spanning {@code 64^n} ticks each, so
+ * scheduling and cancelling a timer are O(1) and a timer moves down at most once per level before
+ * it expires. Six levels cover 2^36 ticks; later deadlines wait in the top level and are placed
+ * again when it cascades. Not thread-safe, callers synchronize.
+ */
+final class TimingWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+    private static final long SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final Timer<T>[] slots;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.slots = (Timer<T>[]) new Timer[LEVELS * WHEEL_SIZE];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules {@code payload} to expire at {@code deadlineTick}. Deadlines that already passed
+     * expire on the next call to {@link #advanceTo}.
+     */
+    Timer<T> schedule(long deadlineTick, T payload) {
+        Timer<T> timer = new Timer<>(deadlineTick, payload);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * @return {@code false} if the timer already expired or was cancelled
+     */
+    boolean cancel(Timer<T> timer) {
+        if (timer.slot < 0) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Processes every tick up to and including {@code tick} and hands the payload of each expired
+     * timer to {@code expired}.
+     */
+    void advanceTo(long tick, Consumer<T> expired) {
+        while (currentTick <= tick) {
+            if (size == 0) {
+                currentTick = tick + 1;
+                return;
+            }
+            cascade();
+            int slot = (int) (currentTick & WHEEL_MASK);
+            Timer<T> timer = slots[slot];
+            slots[slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.slot = -1;
+                size--;
+                expired.accept(timer.payload);
+                timer = next;
+            }
+            currentTick++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = level * WHEEL_SIZE + (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            Timer<T> timer = slots[slot];
+            slots[slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long deadline = Math.max(timer.deadline, currentTick);
+        long delta = deadline - currentTick;
+        if (delta >= SPAN) {
+            deadline = currentTick + SPAN - 1;
+            delta = SPAN - 1;
+        }
+        int level = delta < WHEEL_SIZE ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / WHEEL_BITS;
+        int slot = level * WHEEL_SIZE + (int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        Timer<T> head = slots[slot];
+        timer.slot = slot;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[slot] = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.slot = -1;
+    }
+
+    static final class Timer<T> {
+
+        private final long deadline;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int slot = -1;
+
+        private Timer(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        T payload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskDependencyChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface TaskDependencyChangeRepository extends JpaRepository<TaskDependencyChange, Long> {
+
+    List<TaskDependencyChange> findByTenantIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByRevisionAsc(String tenantId, long after, long upTo);
+
+    @Modifying
+    @Query("delete from TaskDependencyChange c where c.tenantId = :tenantId and c.revision <= :revision")
+    int deleteUpTo(@Param("tenantId") String tenantId, @Param("revision") long revision);
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskDependency;
+import com.example.taskmanager.model.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    List<TaskDependency> findByTenantIdAndIdGreaterThanOrderByIdAsc(String tenantId, Long id, Limit limit);
+
+    // Bulk deletes are not covered by the tenant filter, so the tenant is part of the statement.
+    @Modifying
+    @Query("delete from TaskDependency d where d.tenantId = :tenantId and d.blockerId = :blockerId and d.blockedId = :blockedId")
+    int deleteEdge(@Param("tenantId") String tenantId, @Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+
+    @Modifying
+    @Query("delete from TaskDependency d where d.tenantId = :tenantId and (d.blockerId = :taskId or d.blockedId = :taskId)")
+    int deleteAllByTaskId(@Param("tenantId") String tenantId, @Param("taskId") Long taskId);
+
+    @Query("select count(d) from TaskDependency d, Task t where d.blockedId = :taskId and t.id = d.blockerId and t.status <> :status")
+    long countBlockersNotInStatus(@Param("taskId") Long taskId, @Param("status") TaskStatus status);
+}
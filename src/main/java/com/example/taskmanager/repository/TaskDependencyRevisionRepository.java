@@ -0,0 +1,25 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskDependencyRevision;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface TaskDependencyRevisionRepository extends JpaRepository<TaskDependencyRevision, String> {
+
+    @Query("select r.revision from TaskDependencyRevision r where r.tenantId = :tenantId")
+    Optional<Long> findRevision(@Param("tenantId") String tenantId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TaskDependencyRevision> findForUpdateByTenantId(String tenantId);
+
+    @Modifying
+    @Query("insert into TaskDependencyRevision (tenantId, revision) values (:tenantId, 0) on conflict do nothing")
+    int createIfAbsent(@Param("tenantId") String tenantId);
+}
@@ -1,9 +1,59 @@
 package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.reminder.TaskReminder;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    /**
+     * Loads the task with a row lock so concurrent writers apply their changes one after another
+     * instead of failing the version check.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Task> findForUpdateById(Long id);
+
+    /**
+     * Streams every task visible to the current tenant, fetching rows from the driver in chunks of
+     * {@code hibernate.jdbc.fetch_size} instead of materialising the whole result set. Must be
+     * consumed inside a transaction, and every task stays in the persistence context until the
+     * caller detaches it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select t from Task t")
+    Stream<Task> streamAll();
+
+    /**
+     * Keyset page over the due date index: tasks not in {@code excludedStatus} that fall due after
+     * ({@code afterDueAt}, {@code afterId}) and before {@code until}, ordered by due date and id.
+     */
+    @Query("select new com.example.taskmanager.reminder.TaskReminder(t.tenantId, t.id, t.dueAt) from Task t " +
+            "where t.dueAt < :until and t.status <> :excludedStatus " +
+            "and (t.dueAt > :afterDueAt or (t.dueAt = :afterDueAt and t.id > :afterId)) " +
+            "order by t.dueAt asc, t.id asc")
+    List<TaskReminder> findRemindersDueBefore(@Param("until") LocalDateTime until, @Param("afterDueAt") LocalDateTime afterDueAt, @Param("afterId") Long afterId, @Param("excludedStatus") TaskStatus excludedStatus, Limit limit);
+
+    /**
+     * Returns the reminders of the given tasks that have a due date and are not in
+     * {@code excludedStatus}.
+     */
+    @Query("select new com.example.taskmanager.reminder.TaskReminder(t.tenantId, t.id, t.dueAt) from Task t " +
+            "where t.id in :ids and t.dueAt is not null and t.status <> :excludedStatus")
+    List<TaskReminder> findRemindersByIdIn(@Param("ids") Collection<Long> ids, @Param("excludedStatus") TaskStatus excludedStatus);
 }
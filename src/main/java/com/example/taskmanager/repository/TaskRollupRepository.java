@@ -0,0 +1,36 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.RollupGranularity;
+import com.example.taskmanager.model.TaskRollup;
+import com.example.taskmanager.model.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskRollupRepository extends JpaRepository<TaskRollup, Long> {
+
+    /**
+     * Adds to the counters of a bucket stripe, creating the row if it does not exist yet. Hibernate
+     * renders this as {@code INSERT ... ON CONFLICT DO UPDATE} on Postgres and as {@code MERGE} on H2.
+     */
+    @Modifying
+    @Query("insert into TaskRollup (tenantId, granularity, bucketStart, status, stripe, createdCount, enteredCount) " +
+            "values (:tenantId, :granularity, :bucketStart, :status, :stripe, :created, :entered) " +
+            "on conflict(tenantId, granularity, bucketStart, status, stripe) do update " +
+            "set createdCount = createdCount + excluded.createdCount, enteredCount = enteredCount + excluded.enteredCount")
+    int add(@Param("tenantId") String tenantId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("status") TaskStatus status,
+            @Param("stripe") int stripe,
+            @Param("created") long created,
+            @Param("entered") long entered);
+
+    List<TaskRollup> findByTenantIdAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            String tenantId, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,157 @@
+package com.example.taskmanager.service;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing adjacency lists keyed by primitive {@code long} node ids. Node id {@code 0} is
+ * reserved as the empty-slot marker, which is safe because task ids start at 1.
+ * Not thread-safe; callers guard access.
+ */
+class LongAdjacency {
+
+    private static final int INITIAL_NEIGHBORS = 4;
+
+    private long[] keys;
+    private long[][] neighbors;
+    private int[] degrees;
+    private int size;
+    private long edgeCount;
+
+    LongAdjacency(int expectedNodes) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedNodes * 2 - 1)) << 1;
+        keys = new long[capacity];
+        neighbors = new long[capacity][];
+        degrees = new int[capacity];
+    }
+
+    boolean add(long from, long to) {
+        int slot = slotForInsert(from);
+        long[] list = neighbors[slot];
+        int degree = degrees[slot];
+        for (int i = 0; i < degree; i++) {
+            if (list[i] == to) {
+                return false;
+            }
+        }
+        if (list == null) {
+            list = new long[INITIAL_NEIGHBORS];
+        } else if (degree == list.length) {
+            list = Arrays.copyOf(list, degree * 2);
+        }
+        list[degree] = to;
+        neighbors[slot] = list;
+        degrees[slot] = degree + 1;
+        edgeCount++;
+        return true;
+    }
+
+    boolean remove(long from, long to) {
+        int slot = slot(from);
+        if (slot < 0) {
+            return false;
+        }
+        long[] list = neighbors[slot];
+        int degree = degrees[slot];
+        for (int i = 0; i < degree; i++) {
+            if (list[i] == to) {
+                list[i] = list[degree - 1];
+                degrees[slot] = degree - 1;
+                edgeCount--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean contains(long from, long to) {
+        int slot = slot(from);
+        for (int i = 0; i < degreeAt(slot); i++) {
+            if (neighbors[slot][i] == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long[] removeAll(long from) {
+        int slot = slot(from);
+        if (slot < 0) {
+            return new long[0];
+        }
+        long[] removed = Arrays.copyOf(neighbors[slot], degrees[slot]);
+        neighbors[slot] = null;
+        edgeCount -= degrees[slot];
+        degrees[slot] = 0;
+        return removed;
+    }
+
+    /**
+     * Returns the slot holding the node's neighbors, or {@code -1} when the node has never had any.
+     */
+    int slot(long node) {
+        int mask = keys.length - 1;
+        int slot = mix(node) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == node) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    int degreeAt(int slot) {
+        return slot < 0 ? 0 : degrees[slot];
+    }
+
+    long neighborAt(int slot, int index) {
+        return neighbors[slot][index];
+    }
+
+    long edgeCount() {
+        return edgeCount;
+    }
+
+    private int slotForInsert(long node) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int slot = mix(node) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == node) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = node;
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[][] oldNeighbors = neighbors;
+        int[] oldDegrees = degrees;
+        keys = new long[oldKeys.length * 2];
+        neighbors = new long[keys.length][];
+        degrees = new int[keys.length];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                neighbors[slot] = oldNeighbors[i];
+                degrees[slot] = oldDegrees[i];
+            }
+        }
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanager.service;
+
+/**
+ * Minimal open-addressing set of primitive {@code long} values used by graph traversals.
+ * Value {@code 0} is reserved as the empty-slot marker.
+ */
+class LongHashSet {
+
+    private long[] slots;
+    private int size;
+
+    LongHashSet() {
+        slots = new long[16];
+    }
+
+    boolean add(long value) {
+        if ((size + 1) * 2 > slots.length) {
+            grow();
+        }
+        int mask = slots.length - 1;
+        int slot = LongAdjacency.mix(value) & mask;
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+        size++;
+        return true;
+    }
+
+    boolean contains(long value) {
+        int mask = slots.length - 1;
+        int slot = LongAdjacency.mix(value) & mask;
+        while (slots[slot] != 0) {
+            if (slots[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        size = 0;
+        for (long value : old) {
+            if (value != 0) {
+                add(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskAnalyticsBucket;
+import com.example.taskmanager.model.RollupGranularity;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskAnalyticsService {
+
+    List<TaskAnalyticsBucket> getThroughput(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+}
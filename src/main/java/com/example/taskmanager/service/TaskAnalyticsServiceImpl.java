@@ -0,0 +1,57 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskAnalyticsBucket;
+import com.example.taskmanager.exception.WrongRequestException;
+import com.example.taskmanager.model.RollupGranularity;
+import com.example.taskmanager.model.TaskRollup;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRollupRepository;
+import com.example.taskmanager.tenant.TenantContext;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TaskAnalyticsServiceImpl implements TaskAnalyticsService {
+
+    private static final long MAX_BUCKETS = 10_000;
+
+    private final TaskRollupRepository taskRollupRepository;
+
+    public TaskAnalyticsServiceImpl(TaskRollupRepository taskRollupRepository) {
+        this.taskRollupRepository = taskRollupRepository;
+    }
+
+    @Override
+    public List<TaskAnalyticsBucket> getThroughput(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new WrongRequestException("Parameter 'from' must be before 'to'");
+        }
+        if (granularity.bucketsBetween(from, to) > MAX_BUCKETS) {
+            throw new WrongRequestException("Requested range spans more than " + MAX_BUCKETS + " buckets");
+        }
+        LocalDateTime firstBucket = granularity.bucketOf(from);
+        List<TaskRollup> rollups = taskRollupRepository.findByTenantIdAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                TenantContext.current(), granularity, firstBucket, to);
+
+        List<TaskAnalyticsBucket> buckets = new ArrayList<>();
+        int next = 0;
+        for (LocalDateTime bucket = firstBucket; bucket.isBefore(to); bucket = granularity.next(bucket)) {
+            long created = 0;
+            Map<TaskStatus, Long> entered = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                entered.put(status, 0L);
+            }
+            while (next < rollups.size() && rollups.get(next).getBucketStart().equals(bucket)) {
+                TaskRollup rollup = rollups.get(next++);
+                created += rollup.getCreatedCount();
+                entered.merge(rollup.getStatus(), rollup.getEnteredCount(), Long::sum);
+            }
+            buckets.add(new TaskAnalyticsBucket(bucket, created, entered.get(TaskStatus.DONE), entered));
+        }
+        return buckets;
+    }
+}
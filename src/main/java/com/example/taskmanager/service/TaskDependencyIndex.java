@@ -0,0 +1,474 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.WrongRequestException;
+import com.example.taskmanager.model.TaskDependency;
+import com.example.taskmanager.model.TaskDependencyChange;
+import com.example.taskmanager.model.TaskDependencyRevision;
+import com.example.taskmanager.repository.TaskDependencyChangeRepository;
+import com.example.taskmanager.repository.TaskDependencyRepository;
+import com.example.taskmanager.repository.TaskDependencyRevisionRepository;
+import com.example.taskmanager.tenant.TenantContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of the task dependency graph, kept in both directions so cycle checks and
+ * blocker traversals never touch the dependency table. Every tenant has its own graph, tagged with
+ * the {@link TaskDependencyRevision} it was read at. All operations act on the graph of the
+ * current tenant and must run inside a transaction.
+ *
+ * <p>Every edge change increments the tenant's revision and stores a {@link TaskDependencyChange}
+ * under the new value. A graph that is behind replays the changes after its own revision and only
+ * reads all edges again when it has never been loaded, is too far behind, or the changes it needs
+ * have been pruned. Catching up happens under the graph's write lock, so concurrent readers of a
+ * stale graph wait for one replay instead of each doing their own.
+ *
+ * <p>Edge changes lock the tenant's revision row, which serializes cycle checks across nodes.
+ * Within a transaction they are checked against the shared graph plus the transaction's own
+ * pending changes, and only reach the shared graph after commit. Reads therefore only ever see
+ * committed edges, and a rolled back transaction leaves nothing to undo.
+ */
+@Component
+public class TaskDependencyIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    // A graph further behind than this reads all edges again; older changes are pruned.
+    private static final int MAX_REPLAYED_CHANGES = 10_000;
+    private static final int PRUNE_INTERVAL = 1_000;
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskDependencyRevisionRepository taskDependencyRevisionRepository;
+    private final TaskDependencyChangeRepository taskDependencyChangeRepository;
+    private final ConcurrentMap<String, TenantGraph> graphs = new ConcurrentHashMap<>();
+
+    public TaskDependencyIndex(TaskDependencyRepository taskDependencyRepository, TaskDependencyRevisionRepository taskDependencyRevisionRepository,
+                               TaskDependencyChangeRepository taskDependencyChangeRepository) {
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.taskDependencyRevisionRepository = taskDependencyRevisionRepository;
+        this.taskDependencyChangeRepository = taskDependencyChangeRepository;
+    }
+
+    /**
+     * Records that {@code blockerId} blocks {@code blockedId}.
+     *
+     * @return {@code false} if the edge already exists
+     * @throws WrongRequestException if the edge would close a cycle
+     */
+    public boolean addEdge(long blockerId, long blockedId) {
+        PendingChanges pending = pendingChanges();
+        pending.graph.lock.readLock().lock();
+        try {
+            if (blockerId == blockedId || pending.isReachable(blockedId, blockerId)) {
+                throw new WrongRequestException("Dependency " + blockerId + " -> " + blockedId + " would create a cycle");
+            }
+            if (pending.contains(blockerId, blockedId)) {
+                return false;
+            }
+        } finally {
+            pending.graph.lock.readLock().unlock();
+        }
+        record(pending, blockerId, blockedId, true);
+        complete(pending);
+        return true;
+    }
+
+    public boolean removeEdge(long blockerId, long blockedId) {
+        PendingChanges pending = pendingChanges();
+        pending.graph.lock.readLock().lock();
+        try {
+            if (!pending.contains(blockerId, blockedId)) {
+                return false;
+            }
+        } finally {
+            pending.graph.lock.readLock().unlock();
+        }
+        record(pending, blockerId, blockedId, false);
+        complete(pending);
+        return true;
+    }
+
+    public void removeTask(long taskId) {
+        PendingChanges pending = pendingChanges();
+        long[] blocked;
+        long[] blockers;
+        pending.graph.lock.readLock().lock();
+        try {
+            blocked = pending.neighbors(false, taskId);
+            blockers = pending.neighbors(true, taskId);
+        } finally {
+            pending.graph.lock.readLock().unlock();
+        }
+        for (long other : blocked) {
+            record(pending, taskId, other, false);
+        }
+        for (long other : blockers) {
+            record(pending, other, taskId, false);
+        }
+        complete(pending);
+    }
+
+    /**
+     * Returns every task that directly or transitively blocks the given task, nearest first.
+     */
+    public long[] transitiveBlockers(long taskId) {
+        TenantGraph graph = graph();
+        graph.lock.readLock().lock();
+        try {
+            LongAdjacency blockedBy = graph.blockedBy;
+            LongHashSet visited = new LongHashSet();
+            visited.add(taskId);
+            long[] queue = new long[16];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = taskId;
+            while (head < tail) {
+                int slot = blockedBy.slot(queue[head++]);
+                for (int i = 0; i < blockedBy.degreeAt(slot); i++) {
+                    long blocker = blockedBy.neighborAt(slot, i);
+                    if (visited.add(blocker)) {
+                        if (tail == queue.length) {
+                            queue = Arrays.copyOf(queue, tail * 2);
+                        }
+                        queue[tail++] = blocker;
+                    }
+                }
+            }
+            return Arrays.copyOfRange(queue, 1, tail);
+        } finally {
+            graph.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the given task and all of its transitive blockers in an order where every task comes
+     * after the tasks that block it. The given task is always last.
+     */
+    public long[] plan(long taskId) {
+        TenantGraph graph = graph();
+        graph.lock.readLock().lock();
+        try {
+            LongAdjacency blockedBy = graph.blockedBy;
+            LongHashSet visited = new LongHashSet();
+            visited.add(taskId);
+            long[] nodeStack = new long[16];
+            int[] indexStack = new int[16];
+            long[] order = new long[16];
+            int top = 0;
+            int count = 0;
+            nodeStack[0] = taskId;
+            while (top >= 0) {
+                int slot = blockedBy.slot(nodeStack[top]);
+                int index = indexStack[top];
+                if (index < blockedBy.degreeAt(slot)) {
+                    indexStack[top] = index + 1;
+                    long blocker = blockedBy.neighborAt(slot, index);
+                    if (visited.add(blocker)) {
+                        top++;
+                        if (top == nodeStack.length) {
+                            nodeStack = Arrays.copyOf(nodeStack, top * 2);
+                            indexStack = Arrays.copyOf(indexStack, top * 2);
+                        }
+                        nodeStack[top] = blocker;
+                        indexStack[top] = 0;
+                    }
+                } else {
+                    if (count == order.length) {
+                        order = Arrays.copyOf(order, count * 2);
+                    }
+                    order[count++] = nodeStack[top--];
+                }
+            }
+            return Arrays.copyOf(order, count);
+        } finally {
+            graph.lock.readLock().unlock();
+        }
+    }
+
+    public long edgeCount() {
+        TenantGraph graph = graph();
+        graph.lock.readLock().lock();
+        try {
+            return graph.blocks.edgeCount();
+        } finally {
+            graph.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current tenant's graph, caught up with the latest committed revision.
+     */
+    private TenantGraph graph() {
+        String tenantId = TenantContext.current();
+        return catchUp(tenantId, taskDependencyRevisionRepository.findRevision(tenantId).orElse(0L));
+    }
+
+    private TenantGraph catchUp(String tenantId, long revision) {
+        TenantGraph graph = graphs.computeIfAbsent(tenantId, id -> new TenantGraph());
+        if (graph.revision >= revision) {
+            return graph;
+        }
+        graph.lock.writeLock().lock();
+        try {
+            if (graph.revision < revision && !replay(tenantId, graph, revision)) {
+                load(tenantId, graph, revision);
+            }
+        } finally {
+            graph.lock.writeLock().unlock();
+        }
+        return graph;
+    }
+
+    /**
+     * Applies the changes after the graph's revision up to the given one.
+     *
+     * @return {@code false} if they are not all available and the graph has to be loaded instead
+     */
+    private boolean replay(String tenantId, TenantGraph graph, long revision) {
+        if (graph.revision < 0 || revision - graph.revision > MAX_REPLAYED_CHANGES) {
+            return false;
+        }
+        List<TaskDependencyChange> changes = taskDependencyChangeRepository
+                .findByTenantIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByRevisionAsc(tenantId, graph.revision, revision);
+        if (changes.size() != revision - graph.revision) {
+            return false;
+        }
+        for (TaskDependencyChange change : changes) {
+            apply(graph, change);
+        }
+        graph.revision = revision;
+        return true;
+    }
+
+    /**
+     * Reads the tenant's edges. The revision is read before the edges, so the graph may already
+     * hold newer edges than its revision says. Replaying those changes again leaves it unchanged.
+     */
+    private void load(String tenantId, TenantGraph graph, long revision) {
+        LongAdjacency blocks = new LongAdjacency(64);
+        LongAdjacency blockedBy = new LongAdjacency(64);
+        long lastId = 0;
+        List<TaskDependency> batch;
+        do {
+            batch = taskDependencyRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(tenantId, lastId, Limit.of(LOAD_BATCH_SIZE));
+            for (TaskDependency dependency : batch) {
+                if (blocks.add(dependency.getBlockerId(), dependency.getBlockedId())) {
+                    blockedBy.add(dependency.getBlockedId(), dependency.getBlockerId());
+                }
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        graph.blocks = blocks;
+        graph.blockedBy = blockedBy;
+        graph.revision = revision;
+    }
+
+    /**
+     * Returns the current tenant's changes in this transaction, locking the tenant's revision row
+     * and catching the graph up to it on first use. Outside a transaction every call stands alone.
+     */
+    private PendingChanges pendingChanges() {
+        String tenantId = TenantContext.current();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return begin(tenantId);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, PendingChanges> pending = (Map<String, PendingChanges>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<String, PendingChanges> bound = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bound.values().forEach(TaskDependencyIndex.this::publish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskDependencyIndex.this);
+                }
+            });
+            pending = bound;
+        }
+        return pending.computeIfAbsent(tenantId, this::begin);
+    }
+
+    private PendingChanges begin(String tenantId) {
+        TaskDependencyRevision revision = lockRevision(tenantId);
+        return new PendingChanges(catchUp(tenantId, revision.getRevision()), revision);
+    }
+
+    private TaskDependencyRevision lockRevision(String tenantId) {
+        return taskDependencyRevisionRepository.findForUpdateByTenantId(tenantId).orElseGet(() -> {
+            taskDependencyRevisionRepository.createIfAbsent(tenantId);
+            return taskDependencyRevisionRepository.findForUpdateByTenantId(tenantId)
+                    .orElseThrow(() -> new IllegalStateException("Dependency revision row for tenant " + tenantId + " is missing"));
+        });
+    }
+
+    private void record(PendingChanges pending, long blockerId, long blockedId, boolean added) {
+        TaskDependencyRevision revision = pending.revision;
+        revision.setRevision(revision.getRevision() + 1);
+        TaskDependencyChange change = new TaskDependencyChange(revision.getTenantId(), revision.getRevision(), blockerId, blockedId, added);
+        taskDependencyChangeRepository.save(change);
+        pending.record(change);
+        if (revision.getRevision() % PRUNE_INTERVAL == 0) {
+            taskDependencyChangeRepository.deleteUpTo(revision.getTenantId(), revision.getRevision() - MAX_REPLAYED_CHANGES);
+        }
+    }
+
+    private void complete(PendingChanges pending) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(pending);
+        }
+    }
+
+    /**
+     * Applies committed changes to the shared graph. If the graph has moved on meanwhile, it
+     * already replayed them from the change table.
+     */
+    private void publish(PendingChanges pending) {
+        TenantGraph graph = pending.graph;
+        graph.lock.writeLock().lock();
+        try {
+            if (graph.revision == pending.baseRevision) {
+                for (TaskDependencyChange change : pending.changes) {
+                    apply(graph, change);
+                }
+                graph.revision = pending.revision.getRevision();
+            }
+        } finally {
+            graph.lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(TenantGraph graph, TaskDependencyChange change) {
+        if (change.isAdded()) {
+            if (graph.blocks.add(change.getBlockerId(), change.getBlockedId())) {
+                graph.blockedBy.add(change.getBlockedId(), change.getBlockerId());
+            }
+        } else if (graph.blocks.remove(change.getBlockerId(), change.getBlockedId())) {
+            graph.blockedBy.remove(change.getBlockedId(), change.getBlockerId());
+        }
+    }
+
+    private static final class TenantGraph {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private LongAdjacency blocks = new LongAdjacency(64);
+        private LongAdjacency blockedBy = new LongAdjacency(64);
+        // -1 until the edges are first read
+        private volatile long revision = -1;
+    }
+
+    /**
+     * Edge changes a transaction has made to one tenant's graph but not yet committed, layered over
+     * the shared graph. Callers hold the shared graph's read lock while querying it.
+     */
+    private static final class PendingChanges {
+
+        private final TenantGraph graph;
+        private final TaskDependencyRevision revision;
+        private final long baseRevision;
+        private final List<TaskDependencyChange> changes = new ArrayList<>();
+        private final LongAdjacency added = new LongAdjacency(16);
+        private final LongAdjacency addedBlockedBy = new LongAdjacency(16);
+        private final LongAdjacency removed = new LongAdjacency(16);
+        private final LongAdjacency removedBlockedBy = new LongAdjacency(16);
+
+        private PendingChanges(TenantGraph graph, TaskDependencyRevision revision) {
+            this.graph = graph;
+            this.revision = revision;
+            this.baseRevision = revision.getRevision();
+        }
+
+        private void record(TaskDependencyChange change) {
+            changes.add(change);
+            long blockerId = change.getBlockerId();
+            long blockedId = change.getBlockedId();
+            if (change.isAdded()) {
+                if (removed.remove(blockerId, blockedId)) {
+                    removedBlockedBy.remove(blockedId, blockerId);
+                } else {
+                    added.add(blockerId, blockedId);
+                    addedBlockedBy.add(blockedId, blockerId);
+                }
+            } else if (added.remove(blockerId, blockedId)) {
+                addedBlockedBy.remove(blockedId, blockerId);
+            } else {
+                removed.add(blockerId, blockedId);
+                removedBlockedBy.add(blockedId, blockerId);
+            }
+        }
+
+        private boolean contains(long blockerId, long blockedId) {
+            return added.contains(blockerId, blockedId) || (!removed.contains(blockerId, blockedId) && graph.blocks.contains(blockerId, blockedId));
+        }
+
+        private long[] neighbors(boolean reverse, long node) {
+            LongAdjacency shared = reverse ? graph.blockedBy : graph.blocks;
+            LongAdjacency plus = reverse ? addedBlockedBy : added;
+            LongAdjacency minus = reverse ? removedBlockedBy : removed;
+            int sharedSlot = shared.slot(node);
+            int plusSlot = plus.slot(node);
+            long[] result = new long[shared.degreeAt(sharedSlot) + plus.degreeAt(plusSlot)];
+            int count = 0;
+            for (int i = 0; i < shared.degreeAt(sharedSlot); i++) {
+                long next = shared.neighborAt(sharedSlot, i);
+                if (!minus.contains(node, next)) {
+                    result[count++] = next;
+                }
+            }
+            for (int i = 0; i < plus.degreeAt(plusSlot); i++) {
+                result[count++] = plus.neighborAt(plusSlot, i);
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        }
+
+        private boolean isReachable(long from, long target) {
+            LongHashSet visited = new LongHashSet();
+            visited.add(from);
+            long[] stack = new long[16];
+            int top = 0;
+            stack[top++] = from;
+            while (top > 0) {
+                long node = stack[--top];
+                if (node == target) {
+                    return true;
+                }
+                int slot = graph.blocks.slot(node);
+                for (int i = 0; i < graph.blocks.degreeAt(slot); i++) {
+                    long next = graph.blocks.neighborAt(slot, i);
+                    if (!removed.contains(node, next) && visited.add(next)) {
+                        if (top == stack.length) {
+                            stack = Arrays.copyOf(stack, top * 2);
+                        }
+                        stack[top++] = next;
+                    }
+                }
+                int addedSlot = added.slot(node);
+                for (int i = 0; i < added.degreeAt(addedSlot); i++) {
+                    long next = added.neighborAt(addedSlot, i);
+                    if (visited.add(next)) {
+                        if (top == stack.length) {
+                            stack = Arrays.copyOf(stack, top * 2);
+                        }
+                        stack[top++] = next;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskDependencyResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import java.util.List;
+
+public interface TaskDependencyService {
+
+    TaskDependencyResponse addDependency(Long taskId, Long blockerId);
+
+    void removeDependency(Long taskId, Long blockerId);
+
+    List<TaskResponse> getTransitiveBlockers(Long taskId);
+
+    List<TaskResponse> getPlan(Long taskId);
+
+    void assertUnblocked(Long taskId);
+
+    void removeAllDependencies(Long taskId);
+
+}
@@ -0,0 +1,124 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskDependencyResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.exception.InternalServerException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.exception.WrongRequestException;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskDependency;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskDependencyRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.tenant.TenantContext;
+import jakarta.transaction.Transactional;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TaskDependencyServiceImpl implements TaskDependencyService {
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final TaskDependencyIndex taskDependencyIndex;
+    private final TaskMapper taskMapper;
+
+    public TaskDependencyServiceImpl(TaskDependencyRepository taskDependencyRepository, TaskRepository taskRepository, TaskDependencyIndex taskDependencyIndex, TaskMapper taskMapper) {
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.taskRepository = taskRepository;
+        this.taskDependencyIndex = taskDependencyIndex;
+        this.taskMapper = taskMapper;
+    }
+
+    @Transactional
+    @Override
+    public TaskDependencyResponse addDependency(Long taskId, Long blockerId) {
+        requireTask(taskId);
+        requireTask(blockerId);
+        try {
+            if (taskDependencyIndex.addEdge(blockerId, taskId)) {
+                taskDependencyRepository.save(new TaskDependency(blockerId, taskId));
+            }
+            return new TaskDependencyResponse(blockerId, taskId);
+        } catch (DataAccessException e) {
+            throw new InternalServerException("Failed to add task dependency due to database error", e);
+        }
+    }
+
+    @Transactional
+    @Override
+    public void removeDependency(Long taskId, Long blockerId) {
+        requireTask(taskId);
+        requireTask(blockerId);
+        try {
+            if (taskDependencyRepository.deleteEdge(TenantContext.current(), blockerId, taskId) == 0) {
+                throw new ResourceNotFoundException("Task " + taskId + " is not blocked by task " + blockerId);
+            }
+            taskDependencyIndex.removeEdge(blockerId, taskId);
+        } catch (DataAccessException e) {
+            throw new InternalServerException("Failed to remove task dependency due to database error", e);
+        }
+    }
+
+    @Transactional
+    @Override
+    public List<TaskResponse> getTransitiveBlockers(Long taskId) {
+        requireTask(taskId);
+        return loadInOrder(taskDependencyIndex.transitiveBlockers(taskId));
+    }
+
+    @Transactional
+    @Override
+    public List<TaskResponse> getPlan(Long taskId) {
+        requireTask(taskId);
+        return loadInOrder(taskDependencyIndex.plan(taskId));
+    }
+
+    @Override
+    public void assertUnblocked(Long taskId) {
+        long unfinished = taskDependencyRepository.countBlockersNotInStatus(taskId, TaskStatus.DONE);
+        if (unfinished > 0) {
+            throw new WrongRequestException("Task " + taskId + " is blocked by " + unfinished + " unfinished task(s)");
+        }
+    }
+
+    @Override
+    public void removeAllDependencies(Long taskId) {
+        if (taskDependencyRepository.deleteAllByTaskId(TenantContext.current(), taskId) > 0) {
+            taskDependencyIndex.removeTask(taskId);
+        }
+    }
+
+    private void requireTask(Long id) {
+        if (id == null || id <= 0) {
+            throw new WrongRequestException("Invalid task ID: " + id);
+        }
+        if (!taskRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+    }
+
+    private List<TaskResponse> loadInOrder(long[] ids) {
+        List<Long> boxedIds = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            boxedIds.add(id);
+        }
+        Map<Long, Task> tasks = new HashMap<>();
+        for (Task task : taskRepository.findAllById(boxedIds)) {
+            tasks.put(task.getId(), task);
+        }
+        List<TaskResponse> result = new ArrayList<>(tasks.size());
+        for (Long id : boxedIds) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                result.add(taskMapper.entityToDTO(task));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer for task lookups: concurrent reads of the same id share one database call
+ * and its result instead of each issuing their own query. Flights are keyed per tenant so a
+ * lookup never joins one that runs under another tenant's filter.
+ */
+@Component
+public class TaskLookupCoalescer {
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<TaskResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    public TaskLookupCoalescer(MeterRegistry meterRegistry) {
+        this.leaderCalls = Counter.builder("tasks.lookup.calls")
+                .description("Task lookups that executed a database call")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("tasks.lookup.coalesced")
+                .description("Task lookups that joined an in-flight database call")
+                .register(meterRegistry);
+    }
+
+    public TaskResponse load(Long id, Supplier<TaskResponse> loader) {
+        FlightKey key = new FlightKey(TenantContext.current(), id);
+        CompletableFuture<TaskResponse> flight = new CompletableFuture<>();
+        CompletableFuture<TaskResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+        leaderCalls.increment();
+        try {
+            TaskResponse response = loader.get();
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the in-flight lookup for the given id so later readers start a fresh database call.
+     * Inside a transaction the entry is detached again after commit, since a lookup started before
+     * the commit can still observe the old row.
+     */
+    public void invalidate(Long id) {
+        FlightKey key = new FlightKey(TenantContext.current(), id);
+        inFlight.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.remove(key);
+                }
+            });
+        }
+    }
+
+    public double getLeaderCalls() {
+        return leaderCalls.count();
+    }
+
+    public double getCoalescedCalls() {
+        return coalescedCalls.count();
+    }
+
+    private record FlightKey(String tenant, Long id) {}
+
+    private TaskResponse await(CompletableFuture<TaskResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
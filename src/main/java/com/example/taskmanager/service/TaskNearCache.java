@@ -0,0 +1,109 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.invalidation.InvalidationProperties;
+import com.example.taskmanager.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Node-local cache of task lookups. Every entry carries the row version it was read at and
+ * expires after the configured time-to-live, which bounds how stale a read can be when an
+ * invalidation from another node is lost. An invalidation leaves a tombstone for the same period
+ * so a lookup that read the row before the change cannot put the older version back.
+ */
+@Component
+public class TaskNearCache {
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, Tombstone> tombstones = new ConcurrentHashMap<>();
+    private final long timeToLiveNanos;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskNearCache(InvalidationProperties properties, MeterRegistry meterRegistry) {
+        this.timeToLiveNanos = properties.nearCacheTtl().toNanos();
+        this.maxEntries = properties.nearCacheMaxEntries();
+        this.hits = Counter.builder("tasks.nearcache")
+                .description("Task lookups answered by the node-local cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tasks.nearcache")
+                .description("Task lookups answered by the node-local cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public TaskResponse get(Long id) {
+        Key key = new Key(TenantContext.current(), id);
+        Entry entry = entries.get(key);
+        if (entry == null || System.nanoTime() - entry.loadedAt() > timeToLiveNanos) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.task();
+    }
+
+    /**
+     * Caches a task read at {@code version}, unless a newer version has been announced since.
+     */
+    public void put(Long id, long version, TaskResponse task) {
+        if (timeToLiveNanos <= 0) {
+            return;
+        }
+        Key key = new Key(TenantContext.current(), id);
+        long now = System.nanoTime();
+        Tombstone tombstone = tombstones.get(key);
+        if (tombstone != null && now - tombstone.createdAt() <= timeToLiveNanos && version < tombstone.minVersion()) {
+            return;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            evictExpired(now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        Entry loaded = new Entry(version, task, now);
+        entries.merge(key, loaded, (current, added) -> added.version() >= current.version() ? added : current);
+        // An invalidation may have landed between the tombstone check and the insert.
+        tombstone = tombstones.get(key);
+        if (tombstone != null && version < tombstone.minVersion()) {
+            entries.remove(key, loaded);
+        }
+    }
+
+    /**
+     * Drops the cached task unless it is already at {@code version} or newer. Deletions drop it
+     * regardless and keep it out of the cache until the tombstone expires.
+     */
+    public void invalidate(String tenantId, Long id, long version, boolean deleted) {
+        Key key = new Key(tenantId, id);
+        long minVersion = deleted ? Long.MAX_VALUE : version;
+        long now = System.nanoTime();
+        tombstones.merge(key, new Tombstone(minVersion, now), (current, added) -> new Tombstone(Math.max(current.minVersion(), added.minVersion()), now));
+        entries.computeIfPresent(key, (k, entry) -> entry.version() >= minVersion ? entry : null);
+        if (tombstones.size() > maxEntries) {
+            tombstones.values().removeIf(t -> now - t.createdAt() > timeToLiveNanos);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> now - entry.loadedAt() > timeToLiveNanos);
+        tombstones.values().removeIf(tombstone -> now - tombstone.createdAt() > timeToLiveNanos);
+    }
+
+    private record Key(String tenant, Long id) {}
+
+    private record Entry(long version, TaskResponse task, long loadedAt) {}
+
+    private record Tombstone(long minVersion, long createdAt) {}
+}
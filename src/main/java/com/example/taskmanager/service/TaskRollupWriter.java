@@ -0,0 +1,49 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.model.RollupGranularity;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRollupRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+
+/**
+ * Maintains hourly and daily rollups incrementally: every creation and every status transition
+ * adds one to the counters of its bucket with a single upsert, inside the transaction that made
+ * the change. Each bucket is split into stripes chosen by task id, so concurrent changes to
+ * different tasks of one tenant rarely wait on the same counter row until commit.
+ */
+@Component
+public class TaskRollupWriter {
+
+    private static final int STRIPES = 8;
+
+    private final TaskRollupRepository taskRollupRepository;
+
+    public TaskRollupWriter(TaskRollupRepository taskRollupRepository) {
+        this.taskRollupRepository = taskRollupRepository;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        LocalDateTime occurredAt = event.occurredAt() != null ? event.occurredAt() : LocalDateTime.now();
+        switch (event.type()) {
+            case CREATED -> record(event.tenantId(), event.taskId(), occurredAt, event.task().status(), 1);
+            case UPDATED -> {
+                if (event.task().status() != event.previousStatus()) {
+                    record(event.tenantId(), event.taskId(), occurredAt, event.task().status(), 0);
+                }
+            }
+            case DELETED -> {
+            }
+        }
+    }
+
+    private void record(String tenantId, Long taskId, LocalDateTime occurredAt, TaskStatus status, long created) {
+        int stripe = Math.floorMod(taskId, STRIPES);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            taskRollupRepository.add(tenantId, granularity, granularity.bucketOf(occurredAt), status, stripe, created, 1);
+        }
+    }
+}
@@ -2,46 +2,80 @@ package com.example.taskmanager.service;
 
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.event.TaskChangedEvent;
 import com.example.taskmanager.mapper.TaskMapper;
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.exception.InternalServerException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.exception.WrongRequestException;
 import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskLookupCoalescer taskLookupCoalescer;
+    private final TaskNearCache taskNearCache;
+    private final TaskDependencyService taskDependencyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, TaskLookupCoalescer taskLookupCoalescer, TaskNearCache taskNearCache, TaskDependencyService taskDependencyService, ApplicationEventPublisher eventPublisher, EntityManager entityManager) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.taskLookupCoalescer = taskLookupCoalescer;
+        this.taskNearCache = taskNearCache;
+        this.taskDependencyService = taskDependencyService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
-    @Transactional
+    // Not @Transactional: callers that join an in-flight lookup must not hold a connection while they wait.
     @Override
     public TaskResponse getTask(Long id) {
         if (id == null || id <= 0) {
             throw new WrongRequestException("Invalid task ID: " + id);
         }
-        try {
-            Task task = taskRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-            return taskMapper.entityToDTO(task);
-        } catch (DataAccessException e) {
-            throw new InternalServerException("Failed to retrieve task due to database error", e);
+        TaskResponse cached = taskNearCache.get(id);
+        if (cached != null) {
+            return cached;
         }
+        return taskLookupCoalescer.load(id, () -> {
+            try {
+                Task task = taskRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+                TaskResponse response = taskMapper.entityToDTO(task);
+                if (task.getVersion() != null) {
+                    taskNearCache.put(id, task.getVersion(), response);
+                }
+                return response;
+            } catch (DataAccessException e) {
+                throw new InternalServerException("Failed to retrieve task due to database error", e);
+            }
+        });
     }
 
     @Transactional
     @Override
     public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll().stream().map(taskMapper::entityToDTO).toList();
+        // Only the responses are kept: each task is detached once mapped, so the persistence context
+        // does not grow with the table while the cursor moves on.
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            return tasks.map(task -> {
+                TaskResponse response = taskMapper.entityToDTO(task);
+                entityManager.detach(task);
+                return response;
+            }).toList();
+        }
     }
 
     @Transactional
@@ -49,17 +83,33 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse createTask(TaskRequest taskRequest) {
         Task task = taskMapper.dtoToEntity(taskRequest);
         Task savedTask = taskRepository.save(task);
-        return taskMapper.entityToDTO(savedTask);
+        TaskResponse response = taskMapper.entityToDTO(savedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(savedTask.getTenantId(), savedTask.getId(), TaskChangedEvent.Type.CREATED, savedTask.getVersion(), response, null, null, savedTask.getCreatedAt()));
+        return response;
     }
 
     @Transactional
     @Override
     public TaskResponse updateTask(Long id, TaskRequest taskRequest) {
         try {
-            Task task = taskRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            Task task = taskRepository.findForUpdateById(id).orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            if (taskRequest.status() == TaskStatus.IN_PROGRESS && task.getStatus() != TaskStatus.IN_PROGRESS) {
+                taskDependencyService.assertUnblocked(id);
+            }
+            TaskStatus previousStatus = task.getStatus();
+            LocalDateTime previousDueAt = task.getDueAt();
+            LocalDateTime now = LocalDateTime.now();
             taskMapper.updateEntityFromDto(taskRequest, task);
-            Task updatedTask = taskRepository.save(task);
-            return taskMapper.entityToDTO(updatedTask);
+            if (task.getStatus() != previousStatus) {
+                task.setStatusChangedAt(now);
+                task.setCompletedAt(task.getStatus() == TaskStatus.DONE ? now : null);
+            }
+            // Flushed so the event carries the incremented row version.
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            taskLookupCoalescer.invalidate(id);
+            TaskResponse response = taskMapper.entityToDTO(updatedTask);
+            eventPublisher.publishEvent(new TaskChangedEvent(updatedTask.getTenantId(), id, TaskChangedEvent.Type.UPDATED, updatedTask.getVersion(), response, previousStatus, previousDueAt, now));
+            return response;
         } catch (DataAccessException e) {
             throw new InternalServerException("Failed to update task due to database error", e);
         }
@@ -69,9 +119,12 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public void deleteTask(Long id){
         try {
-            Task task = taskRepository.findById(id)
+            Task task = taskRepository.findForUpdateById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            taskDependencyService.removeAllDependencies(id);
             taskRepository.delete(task);
+            taskLookupCoalescer.invalidate(id);
+            eventPublisher.publishEvent(new TaskChangedEvent(task.getTenantId(), id, TaskChangedEvent.Type.DELETED, task.getVersion(), null, task.getStatus(), task.getDueAt(), LocalDateTime.now()));
         } catch (DataAccessException e) {
             throw new InternalServerException("Failed to delete task due to database error", e);
         }
@@ -0,0 +1,20 @@
+package com.example.taskmanager.tenant;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown when a tenant asks for a connection while already holding its whole connection budget.
+ * Built without a stack trace: during a burst it is thrown at request rates, and it reaches the
+ * client as 429 rather than as an error to diagnose.
+ */
+public class TenantBudgetExceededException extends SQLTransientConnectionException {
+
+    public TenantBudgetExceededException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.taskmanager.tenant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Per-tenant request and connection quotas together with the meters that track them, so a burst
+ * from one tenant is turned away before it can occupy threads or pooled connections of the others.
+ * Tenants that are not configured share one budget, which keeps the number of budgets and meter
+ * tags bounded by the configuration.
+ */
+public class TenantBudgets {
+
+    public static final String UNLISTED = "unlisted";
+
+    /**
+     * Seconds a throttled client is asked to wait before retrying.
+     */
+    public static final int RETRY_AFTER_SECONDS = 1;
+
+    private final TenantProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    public TenantBudgets(TenantProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Budget forTenant(String tenant) {
+        return budgets.computeIfAbsent(properties.isKnown(tenant) ? tenant : UNLISTED, this::createBudget);
+    }
+
+    private Budget createBudget(String tenant) {
+        TenantProperties.Limits limits = properties.limitsFor(tenant);
+        return new Budget(
+                new Semaphore(limits.maxConcurrentRequests()),
+                new Semaphore(limits.maxConnections()),
+                limits.connectionWait(),
+                Timer.builder("tenant.requests")
+                        .description("Requests served per tenant")
+                        .tag("tenant", tenant)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry),
+                Counter.builder("tenant.requests.rejected")
+                        .description("Requests rejected because the tenant exceeded its concurrency quota")
+                        .tag("tenant", tenant)
+                        .register(meterRegistry),
+                Counter.builder("tenant.connections.rejected")
+                        .description("Connection requests rejected because the tenant exceeded its connection budget")
+                        .tag("tenant", tenant)
+                        .register(meterRegistry)
+        );
+    }
+
+    public record Budget(
+            Semaphore requests,
+            Semaphore connections,
+            Duration connectionWait,
+            Timer requestTimer,
+            Counter rejectedRequests,
+            Counter rejectedConnections
+    ) {}
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanager.tenant;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many pooled connections a single tenant may hold at once. Connections taken outside a
+ * tenant request, such as during startup, by background jobs or for the default tenant, are not
+ * counted.
+ */
+public class TenantConnectionBudgetDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<TenantBudgets> tenantBudgets;
+
+    public TenantConnectionBudgetDataSource(DataSource targetDataSource, ObjectProvider<TenantBudgets> tenantBudgets) {
+        super(targetDataSource);
+        this.tenantBudgets = tenantBudgets;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TenantContext.isSet()) {
+            return super.getConnection();
+        }
+        String tenant = TenantContext.current();
+        TenantBudgets.Budget budget = tenantBudgets.getObject().forTenant(tenant);
+        try {
+            if (!budget.connections().tryAcquire(budget.connectionWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                budget.rejectedConnections().increment();
+                throw new TenantBudgetExceededException("Tenant " + tenant + " exceeded its connection budget");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+        try {
+            return releasingOnClose(super.getConnection(), budget);
+        } catch (SQLException | RuntimeException e) {
+            budget.connections().release();
+            throw e;
+        }
+    }
+
+    private static Connection releasingOnClose(Connection connection, TenantBudgets.Budget budget) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        budget.connections().release();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanager.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * Supplies the {@code tenantId} parameter of the Hibernate tenant filter declared on {@code Task}.
+ */
+public class TenantIdResolver implements Supplier<String> {
+
+    @Override
+    public String get() {
+        return TenantContext.current();
+    }
+}
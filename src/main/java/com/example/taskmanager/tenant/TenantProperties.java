@@ -0,0 +1,63 @@
+package com.example.taskmanager.tenant;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tenant header and quotas. Only tenants listed in {@code known} or {@code overrides} get a budget
+ * of their own; every other tenant id shares the {@link TenantBudgets#UNLISTED} budget, so ids
+ * made up by clients cannot multiply quotas or meters.
+ */
+@ConfigurationProperties(prefix = "taskmanager.tenant")
+public record TenantProperties(
+        String header,
+        Set<String> known,
+        Limits defaults,
+        Map<String, Limits> overrides
+) {
+
+    public TenantProperties {
+        if (header == null) {
+            header = "X-Tenant-Id";
+        }
+        if (known == null) {
+            known = Set.of();
+        }
+        if (defaults == null) {
+            defaults = new Limits(null, null, null);
+        }
+        if (overrides == null) {
+            overrides = Map.of();
+        }
+    }
+
+    public boolean isKnown(String tenant) {
+        return known.contains(tenant) || overrides.containsKey(tenant);
+    }
+
+    public Limits limitsFor(String tenant) {
+        return overrides.getOrDefault(tenant, defaults);
+    }
+
+    public record Limits(
+            Integer maxConcurrentRequests,
+            Integer maxConnections,
+            Duration connectionWait
+    ) {
+
+        public Limits {
+            if (maxConcurrentRequests == null) {
+                // Requests beyond a couple per core only queue for the CPU, where they would delay every other tenant.
+                maxConcurrentRequests = 2 * Runtime.getRuntime().availableProcessors();
+            }
+            if (maxConnections == null) {
+                maxConnections = 4;
+            }
+            if (connectionWait == null) {
+                connectionWait = Duration.ofMillis(500);
+            }
+        }
+    }
+}
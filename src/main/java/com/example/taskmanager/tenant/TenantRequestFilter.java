@@ -0,0 +1,73 @@
+package com.example.taskmanager.tenant;
+
+import com.example.taskmanager.dto.ApiError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the tenant of each request from a header, binds it to {@link TenantContext} and
+ * enforces the tenant's concurrent request quota. Requests without the header belong to the
+ * default tenant, which is what a single-tenant deployment runs as; it is left unbound and is only
+ * limited by the thread and connection pools, as before tenants existed.
+ */
+public class TenantRequestFilter extends OncePerRequestFilter {
+
+    private static final Pattern TENANT_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final TenantProperties properties;
+    private final TenantBudgets tenantBudgets;
+    private final ObjectMapper objectMapper;
+
+    public TenantRequestFilter(TenantProperties properties, TenantBudgets tenantBudgets, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.tenantBudgets = tenantBudgets;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String tenant = request.getHeader(properties.header());
+        if (tenant == null || tenant.isEmpty() || tenant.equals(TenantContext.DEFAULT_TENANT)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!TENANT_PATTERN.matcher(tenant).matches()) {
+            reject(request, response, HttpStatus.BAD_REQUEST, "Invalid tenant id");
+            return;
+        }
+        TenantBudgets.Budget budget = tenantBudgets.forTenant(tenant);
+        if (!budget.requests().tryAcquire()) {
+            budget.rejectedRequests().increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TenantBudgets.RETRY_AFTER_SECONDS));
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many concurrent requests for tenant " + tenant);
+            return;
+        }
+        long start = System.nanoTime();
+        TenantContext.set(tenant);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+            budget.requests().release();
+            budget.requestTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ApiError apiError = new ApiError(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message, request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "taskmanager.list-cache")
+public record ListCacheProperties(
+        Boolean enabled,
+        Duration ttl
+) {
+
+    public ListCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(5);
+        }
+    }
+}
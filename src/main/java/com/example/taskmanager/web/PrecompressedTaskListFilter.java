@@ -0,0 +1,90 @@
+package com.example.taskmanager.web;
+
+import com.example.taskmanager.tenant.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves {@code GET /api/tasks} to gzip-capable clients from {@link TaskListResponseCache}, so
+ * repeated identical list requests skip both the query and the compression. Bodies below the
+ * configured minimum size are passed through untouched.
+ */
+public class PrecompressedTaskListFilter extends OncePerRequestFilter {
+
+    private static final String TASK_LIST_PATH = "/api/tasks";
+    private static final String GZIP = "gzip";
+
+    private final TaskListResponseCache cache;
+    private final long minResponseSize;
+
+    public PrecompressedTaskListFilter(TaskListResponseCache cache, long minResponseSize) {
+        this.cache = cache;
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !TASK_LIST_PATH.equals(request.getRequestURI())
+                || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String tenant = TenantContext.current();
+        long version = cache.version(tenant);
+        byte[] cached = cache.get(tenant, version);
+        if (cached != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("application/json");
+            writeGzip(response, cached);
+            return;
+        }
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || body.length < minResponseSize) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        byte[] gzipBody = gzip(body);
+        cache.put(tenant, version, gzipBody);
+        writeGzip(response, gzipBody);
+    }
+
+    private static void writeGzip(HttpServletResponse response, byte[] gzipBody) throws IOException {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(gzipBody.length);
+        response.getOutputStream().write(gzipBody);
+    }
+
+    static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 8));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanager.web;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the last gzip-encoded task list body per tenant. Every committed task change bumps the
+ * tenant's version, which retires the cached body; the time-to-live bounds how long a body can
+ * outlive changes committed by other nodes.
+ */
+@Component
+public class TaskListResponseCache {
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration timeToLive;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskListResponseCache(ListCacheProperties properties, MeterRegistry meterRegistry) {
+        this.timeToLive = properties.ttl();
+        this.hits = Counter.builder("tasks.list.precompressed")
+                .description("Task list responses served from the precompressed cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tasks.list.precompressed")
+                .description("Task list responses served from the precompressed cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Must be read before the list is loaded so a change committed in between can only make the
+     * stored body look older than it is, never newer.
+     */
+    public long version(String tenant) {
+        return versions.computeIfAbsent(tenant, t -> new AtomicLong()).get();
+    }
+
+    public byte[] get(String tenant, long version) {
+        Entry entry = entries.get(tenant);
+        if (entry == null || entry.version() != version || System.nanoTime() - entry.createdAt() > timeToLive.toNanos()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.gzipBody();
+    }
+
+    public void put(String tenant, long version, byte[] gzipBody) {
+        entries.put(tenant, new Entry(version, gzipBody, System.nanoTime()));
+    }
+
+    public void invalidate(String tenant) {
+        versions.computeIfAbsent(tenant, t -> new AtomicLong()).incrementAndGet();
+        entries.remove(tenant);
+    }
+
+    /**
+     * Retires the cached body of every tenant, for when changes may have been missed.
+     */
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+        entries.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate(event.tenantId());
+    }
+
+    private record Entry(long version, byte[] gzipBody, long createdAt) {}
+}
@@ -0,0 +1,10 @@
+-- Schema of the first release, as Hibernate created it. Databases that already have it are
+-- baselined at this version instead of running this script.
+create table if not exists tasks (
+    id bigint generated by default as identity,
+    title varchar(100) not null,
+    description varchar(500),
+    status varchar(255) not null check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    created_at timestamp(6) not null,
+    primary key (id)
+);
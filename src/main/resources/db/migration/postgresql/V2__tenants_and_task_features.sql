@@ -0,0 +1,73 @@
+-- Brings a first-release schema up to date. Every step tolerates objects that an earlier build
+-- running with ddl-auto=update may already have created, and NOT NULL columns are backfilled
+-- before the constraint is added, so tables that already hold rows can be migrated.
+
+alter table tasks add column if not exists tenant_id varchar(64);
+update tasks set tenant_id = 'default' where tenant_id is null;
+alter table tasks alter column tenant_id set not null;
+
+alter table tasks add column if not exists status_changed_at timestamp(6);
+alter table tasks add column if not exists completed_at timestamp(6);
+
+create index if not exists idx_tasks_tenant_id on tasks (tenant_id, id);
+create index if not exists idx_tasks_tenant_status on tasks (tenant_id, status);
+create index if not exists idx_tasks_tenant_created_at on tasks (tenant_id, created_at);
+
+create table if not exists task_dependencies (
+    id bigint generated by default as identity,
+    blocker_id bigint not null,
+    blocked_id bigint not null,
+    primary key (id),
+    constraint uk_task_dependencies_edge unique (blocker_id, blocked_id)
+);
+alter table task_dependencies add column if not exists tenant_id varchar(64);
+update task_dependencies d set tenant_id = t.tenant_id from tasks t where d.tenant_id is null and t.id = d.blocked_id;
+update task_dependencies set tenant_id = 'default' where tenant_id is null;
+alter table task_dependencies alter column tenant_id set not null;
+create index if not exists idx_task_dependencies_blocked on task_dependencies (blocked_id);
+create index if not exists idx_task_dependencies_tenant_id on task_dependencies (tenant_id, id);
+
+create table if not exists task_dependency_revisions (
+    tenant_id varchar(64) not null,
+    revision bigint not null,
+    primary key (tenant_id)
+);
+
+create table if not exists task_dependency_changes (
+    id bigint generated by default as identity,
+    tenant_id varchar(64) not null,
+    revision bigint not null,
+    blocker_id bigint not null,
+    blocked_id bigint not null,
+    added boolean not null,
+    primary key (id),
+    constraint uk_task_dependency_changes_revision unique (tenant_id, revision)
+);
+
+create table if not exists task_outbox (
+    id bigint generated by default as identity,
+    tenant_id varchar(64) not null,
+    aggregate_id bigint not null,
+    event_type varchar(32) not null,
+    payload varchar(8192) not null,
+    created_at timestamp(6) not null,
+    published_at timestamp(6),
+    primary key (id)
+);
+create index if not exists idx_task_outbox_unpublished on task_outbox (published_at, id);
+create index if not exists idx_task_outbox_aggregate on task_outbox (aggregate_id, id);
+
+create table if not exists task_rollups (
+    id bigint generated by default as identity,
+    tenant_id varchar(64) not null,
+    granularity varchar(8) not null check (granularity in ('HOUR', 'DAY')),
+    bucket_start timestamp(6) not null,
+    status varchar(255) not null check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    created_count bigint not null,
+    entered_count bigint not null,
+    primary key (id)
+);
+alter table task_rollups add column if not exists stripe integer not null default 0;
+alter table task_rollups alter column stripe drop default;
+alter table task_rollups drop constraint if exists uk_task_rollups_bucket;
+alter table task_rollups add constraint uk_task_rollups_bucket unique (tenant_id, granularity, bucket_start, status, stripe);
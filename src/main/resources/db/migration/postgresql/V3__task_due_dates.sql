@@ -0,0 +1,2 @@
+alter table tasks add column if not exists due_at timestamp(6);
+create index if not exists idx_tasks_due_at on tasks (due_at, id);
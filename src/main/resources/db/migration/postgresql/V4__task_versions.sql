@@ -0,0 +1,3 @@
+alter table tasks add column if not exists version bigint;
+update tasks set version = 0 where version is null;
+alter table tasks alter column version set not null;
@@ -1,6 +1,6 @@
-INSERT INTO tasks (title, description, status, created_at) VALUES
-    ('Разработка приложения', 'Спроектировать простое приложение на Spring Boot', 'DONE', NOW()),
-    ('Тестирование API', 'Протестировать приложение на разных уровнях', 'DONE', NOW()),
-    ('Оптимизация производительности', 'Проанализировать и улучшить производительность приложения', 'TODO', NOW()),
-    ('Деплой на сервер', 'Развернуть приложение на сервере', 'IN_PROGRESS', NOW()
+INSERT INTO tasks (title, description, status, created_at, tenant_id) VALUES
+    ('Разработка приложения', 'Спроектировать простое приложение на Spring Boot', 'DONE', NOW(), 'default'),
+    ('Тестирование API', 'Протестировать приложение на разных уровнях', 'DONE', NOW(), 'default'),
+    ('Оптимизация производительности', 'Проанализировать и улучшить производительность приложения', 'TODO', NOW(), 'default'),
+    ('Деплой на сервер', 'Развернуть приложение на сервере', 'IN_PROGRESS', NOW(), 'default'
 );
\ No newline at end of file
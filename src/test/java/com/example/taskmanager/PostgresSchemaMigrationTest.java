@@ -0,0 +1,109 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the {@code postgres} profile on a database left behind by earlier builds, which created
+ * their schema with {@code ddl-auto=update}, and checks that the migrations bring it up to what
+ * the entities expect without losing rows.
+ */
+@SpringBootTest(properties = {
+        "taskmanager.invalidation.bus=in-process",
+        "taskmanager.outbox.relay-interval-ms=3600000",
+        "taskmanager.reminders.enabled=false"
+})
+@ActiveProfiles("postgres")
+@DirtiesContext
+class PostgresSchemaMigrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmbeddedPostgres embeddedPostgres;
+
+    @TestConfiguration
+    static class LegacyPostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException, SQLException {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            try (Connection connection = postgres.getPostgresDatabase().getConnection(); Statement statement = connection.createStatement()) {
+                // The first release, plus the dependency table as it was before it carried a tenant.
+                statement.execute("create table tasks (id bigint generated by default as identity, title varchar(100) not null, description varchar(500), "
+                        + "status varchar(255) not null check (status in ('TODO','IN_PROGRESS','DONE')), created_at timestamp(6) not null, primary key (id))");
+                statement.execute("create table task_dependencies (id bigint generated by default as identity, blocker_id bigint not null, blocked_id bigint not null, "
+                        + "primary key (id), constraint uk_task_dependencies_edge unique (blocker_id, blocked_id))");
+                statement.execute("insert into tasks (title, status, created_at) values ('Legacy task', 'TODO', now()), ('Legacy blocker', 'DONE', now())");
+                statement.execute("insert into task_dependencies (blocker_id, blocked_id) values (2, 1)");
+            }
+            return postgres;
+        }
+
+        @Bean(destroyMethod = "close")
+        @ConfigurationProperties("spring.datasource.hikari")
+        HikariDataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(embeddedPostgres.getJdbcUrl("postgres", "postgres"));
+            return dataSource;
+        }
+    }
+
+    @Test
+    void testExistingRowsAreBackfilled() {
+        Map<String, Object> legacy = jdbcTemplate.queryForMap("select tenant_id, version from tasks where id = 1");
+        assertEquals("default", legacy.get("tenant_id"));
+        assertEquals(0L, legacy.get("version"));
+        assertEquals("default", jdbcTemplate.queryForObject("select tenant_id from task_dependencies where blocker_id = 2", String.class));
+
+        assertEquals("Legacy task", taskService.getTask(1L).title());
+        TaskResponse updated = taskService.updateTask(1L, new TaskRequest("Legacy task", null, TaskStatus.IN_PROGRESS, null));
+        assertEquals(TaskStatus.IN_PROGRESS, updated.status());
+        assertEquals(1L, jdbcTemplate.queryForObject("select version from tasks where id = 1", Long.class));
+    }
+
+    @Test
+    void testEmptyDatabaseIsMigratedToTheSameSchema() throws SQLException {
+        try (Connection connection = embeddedPostgres.getPostgresDatabase().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create database fresh");
+        }
+        try (HikariDataSource fresh = new HikariDataSource()) {
+            fresh.setJdbcUrl(embeddedPostgres.getJdbcUrl("postgres", "fresh"));
+            Flyway.configure().dataSource(fresh).locations("classpath:db/migration/postgresql").load().migrate();
+            assertEquals(schema(jdbcTemplate), schema(new JdbcTemplate(fresh)));
+        }
+    }
+
+    private static Map<String, List<Map<String, Object>>> schema(JdbcTemplate jdbc) {
+        List<Map<String, Object>> columns = jdbc.queryForList("select table_name, column_name, data_type, character_maximum_length, is_nullable, column_default "
+                + "from information_schema.columns where table_schema = 'public' and table_name <> 'flyway_schema_history' order by table_name, column_name");
+        List<Map<String, Object>> indexes = jdbc.queryForList("select tablename, indexname, indexdef from pg_indexes "
+                + "where schemaname = 'public' and tablename <> 'flyway_schema_history' order by tablename, indexname");
+        return Map.of("columns", columns, "indexes", indexes);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Server CPU per request for a found task (200) against a missing one (404), both going through
+ * the full MVC stack. Run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(properties = "logging.level.com.example.taskmanager=ERROR")
+@AutoConfigureMockMvc
+class ErrorPathBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void benchmarkNotFoundAgainstFound() throws Exception {
+        TaskResponse task = taskService.createTask(new TaskRequest("Benchmark Task", "Description", TaskStatus.TODO, null));
+        double found = cpuMicrosPerRequest(get("/api/tasks/" + task.id()));
+        double notFound = cpuMicrosPerRequest(get("/api/tasks/" + Long.MAX_VALUE));
+        System.out.printf("200: %.1f us/request, 404: %.1f us/request%n", found, notFound);
+        assertTrue(notFound <= found * 1.25, "404 path should cost about the same as a 200");
+    }
+
+    private double cpuMicrosPerRequest(RequestBuilder request) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mockMvc.perform(request);
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mockMvc.perform(request);
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.taskmanager.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Properties;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statements per second against an embedded Postgres with the driver defaults and with the
+ * driver settings of the {@code postgres} profile. Run with {@code mvn test -Pbenchmark}.
+ *
+ * <p>Inserts are sent one row at a time and read back their generated key, which is what
+ * Hibernate does for entities with IDENTITY ids: it cannot batch them, so neither does this.
+ */
+class PostgresJdbcTuningBenchmark {
+
+    private static final String DRIVER_PREFIX = "spring.datasource.hikari.data-source-properties.";
+    private static final int ROWS = 20_000;
+    private static final int LOOKUPS = 20_000;
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void benchmarkTunedDriverAgainstDefaults() throws Exception {
+        Result defaults = run(new Properties());
+        Result tuned = run(profileDriverProperties());
+        System.out.printf("defaults: %,.0f inserts/s, %,.0f lookups/s%n", defaults.insertsPerSecond(), defaults.lookupsPerSecond());
+        System.out.printf("postgres profile: %,.0f inserts/s, %,.0f lookups/s%n", tuned.insertsPerSecond(), tuned.lookupsPerSecond());
+        System.out.println("inserts are single-row with generated keys: entities use IDENTITY ids, so Hibernate never sends insert batches");
+        assertTrue(tuned.insertsPerSecond() >= defaults.insertsPerSecond() * 0.9, "Inserts should not get slower with the profile settings");
+        assertTrue(tuned.lookupsPerSecond() >= defaults.lookupsPerSecond() * 0.9, "Lookups should not get slower with the profile settings");
+    }
+
+    private Result run(Properties driverProperties) throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        config.setMaximumPoolSize(1);
+        config.setDataSourceProperties(driverProperties);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("drop table if exists bench_tasks");
+                statement.execute("create table bench_tasks (id bigserial primary key, title varchar(100) not null, status varchar(20) not null, tenant_id varchar(64) not null, created_at timestamp not null)");
+            }
+            insertRows(dataSource, 1_000);
+            lookupRows(dataSource, 1_000);
+            long start = System.nanoTime();
+            insertRows(dataSource, ROWS);
+            double insertsPerSecond = ROWS / ((System.nanoTime() - start) / 1e9);
+            start = System.nanoTime();
+            lookupRows(dataSource, LOOKUPS);
+            double lookupsPerSecond = LOOKUPS / ((System.nanoTime() - start) / 1e9);
+            return new Result(insertsPerSecond, lookupsPerSecond);
+        }
+    }
+
+    private void insertRows(HikariDataSource dataSource, int rows) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < rows; i++) {
+                try (PreparedStatement insert = connection.prepareStatement("insert into bench_tasks (title, status, tenant_id, created_at) values (?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                    insert.setString(1, "Task " + i);
+                    insert.setString(2, "TODO");
+                    insert.setString(3, "default");
+                    insert.setTimestamp(4, now);
+                    insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        assertTrue(keys.next());
+                    }
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    // Prepares the statement on every call the way Hibernate does, so only the driver's statement cache can reuse it.
+    private void lookupRows(HikariDataSource dataSource, int lookups) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < lookups; i++) {
+                try (PreparedStatement select = connection.prepareStatement("select id, title, status, created_at from bench_tasks where id = ? and tenant_id = ?")) {
+                    select.setLong(1, 1 + i % 1_000);
+                    select.setString(2, "default");
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        assertTrue(resultSet.next());
+                    }
+                }
+            }
+        }
+    }
+
+    private static Properties profileDriverProperties() throws Exception {
+        Properties profile = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-postgres.properties"));
+        Properties driverProperties = new Properties();
+        for (String name : profile.stringPropertyNames()) {
+            if (name.startsWith(DRIVER_PREFIX)) {
+                driverProperties.setProperty(name.substring(DRIVER_PREFIX.length()), profile.getProperty(name));
+            }
+        }
+        assertFalse(driverProperties.isEmpty());
+        return driverProperties;
+    }
+
+    private record Result(double insertsPerSecond, double lookupsPerSecond) {}
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bytes on the wire and server CPU per request for the task list under three serving strategies:
+ * plain JSON, gzip compressed per request, and a precompressed cached body.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+class TaskListCompressionBenchmark {
+
+    private static final int[] LIST_SIZES = {10, 100, 1_000, 10_000};
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void benchmarkListCompression() throws Exception {
+        System.out.printf("%8s %12s %12s %7s %14s %14s %14s%n",
+                "tasks", "json bytes", "gzip bytes", "ratio", "json cpu us", "gzip cpu us", "cached cpu us");
+        for (int size : LIST_SIZES) {
+            List<TaskResponse> tasks = tasks(size);
+            byte[] json = objectMapper.writeValueAsBytes(tasks);
+            byte[] gzip = gzip(json);
+            byte[] cached = gzip.clone();
+
+            double jsonCpu = cpuMicrosPerRequest(() -> sink(objectMapper.writeValueAsBytes(tasks)));
+            double gzipCpu = cpuMicrosPerRequest(() -> sink(gzip(objectMapper.writeValueAsBytes(tasks))));
+            double cachedCpu = cpuMicrosPerRequest(() -> sink(cached.clone()));
+
+            System.out.printf("%8d %12d %12d %6.1fx %14.1f %14.1f %14.1f%n",
+                    size, json.length, gzip.length, (double) json.length / gzip.length, jsonCpu, gzipCpu, cachedCpu);
+            if (size >= 100) {
+                assertTrue(gzip.length * 4 < json.length, "list payloads should compress at least 4:1");
+            }
+        }
+    }
+
+    private double cpuMicrosPerRequest(Request request) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            request.serve();
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            request.serve();
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static List<TaskResponse> tasks(int size) {
+        TaskStatus[] statuses = TaskStatus.values();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse((long) i + 1, "Task " + i, "Description of task number " + i,
+                    statuses[i % statuses.length], createdAt.plusMinutes(i), null));
+        }
+        return tasks;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 8);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static long blackhole;
+
+    private static void sink(byte[] body) {
+        blackhole += body.length;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void serve() throws IOException;
+    }
+}
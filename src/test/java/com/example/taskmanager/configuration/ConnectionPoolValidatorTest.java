@@ -0,0 +1,39 @@
+package com.example.taskmanager.configuration;
+
+import com.example.taskmanager.tenant.TenantProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolValidatorTest {
+
+    @Test
+    void testAcceptsPoolThatFitsRequestThreads() {
+        TenantProperties tenants = new TenantProperties(null, null, new TenantProperties.Limits(null, 4, null), null);
+        assertTrue(ConnectionPoolValidator.validate(16, 64, tenants).isEmpty());
+    }
+
+    @Test
+    void testRejectsPoolLargerThanRequestThreads() {
+        TenantProperties tenants = new TenantProperties(null, null, null, null);
+        assertEquals(1, ConnectionPoolValidator.validate(100, 64, tenants).size());
+    }
+
+    @Test
+    void testRejectsTenantBudgetLargerThanPool() {
+        TenantProperties.Limits greedy = new TenantProperties.Limits(null, 32, Duration.ofMillis(100));
+        TenantProperties tenants = new TenantProperties(null, null, new TenantProperties.Limits(null, 20, null), Map.of("acme", greedy));
+        assertEquals(2, ConnectionPoolValidator.validate(16, 64, tenants).size());
+    }
+
+    @Test
+    void testStartupFailsOnInvalidPool() {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(100);
+            ConnectionPoolValidator validator = new ConnectionPoolValidator(dataSource, 64, new TenantProperties(null, null, null, null));
+            assertThrows(IllegalStateException.class, validator::afterSingletonsInstantiated);
+        }
+    }
+}
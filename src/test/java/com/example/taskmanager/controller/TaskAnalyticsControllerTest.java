@@ -0,0 +1,87 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskAnalyticsControllerTest {
+
+    private static final String TENANT = "analytics-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void testThroughputIsServedFromRollups() throws Exception {
+        TenantContext.set(TENANT);
+        taskService.createTask(new TaskRequest("Task 1", null, TaskStatus.TODO, null));
+        taskService.createTask(new TaskRequest("Task 2", null, TaskStatus.DONE, null));
+        TaskResponse task = taskService.createTask(new TaskRequest("Task 3", null, TaskStatus.TODO, null));
+        taskService.updateTask(task.id(), new TaskRequest("Task 3", null, TaskStatus.DONE, null));
+        Task stored = taskRepository.findById(task.id()).orElseThrow();
+        assertNotNull(stored.getStatusChangedAt());
+        assertNotNull(stored.getCompletedAt());
+        TenantContext.clear();
+
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        mockMvc.perform(get("/api/tasks/analytics")
+                        .header("X-Tenant-Id", TENANT)
+                        .param("bucket", "hour")
+                        .param("from", hour.toString())
+                        .param("to", hour.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].created").value(3))
+                .andExpect(jsonPath("$[0].completed").value(2))
+                .andExpect(jsonPath("$[0].entered.TODO").value(2));
+
+        mockMvc.perform(get("/api/tasks/analytics")
+                        .header("X-Tenant-Id", "another-tenant")
+                        .param("bucket", "day")
+                        .param("from", hour.toString())
+                        .param("to", hour.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].created").value(0));
+    }
+
+    @Test
+    void testInvalidBucketIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks/analytics")
+                        .param("bucket", "week")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-02T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/analytics")
+                        .param("from", "2025-01-02T00:00:00")
+                        .param("to", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -32,8 +32,8 @@ class TaskControllerTest {
 
     @Test
     void testCreateTask() throws Exception {
-        TaskRequest request = new TaskRequest("Test Task", "Test Description", TaskStatus.TODO);
-        TaskResponse response = new TaskResponse(1L, "Test Task", "Test Description", TaskStatus.TODO, LocalDateTime.now());
+        TaskRequest request = new TaskRequest("Test Task", "Test Description", TaskStatus.TODO, null);
+        TaskResponse response = new TaskResponse(1L, "Test Task", "Test Description", TaskStatus.TODO, LocalDateTime.now(), null);
         when(taskService.createTask(any(TaskRequest.class))).thenReturn(response);
         mockMvc.perform(post("/api/tasks")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -47,7 +47,7 @@ class TaskControllerTest {
 
     @Test
     void testCreateTaskWithEmptyTitle() throws Exception {
-        TaskRequest invalidRequest = new TaskRequest("", "Test Description", TaskStatus.TODO);
+        TaskRequest invalidRequest = new TaskRequest("", "Test Description", TaskStatus.TODO, null);
         mockMvc.perform(post("/api/tasks")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(invalidRequest)))
@@ -58,7 +58,7 @@ class TaskControllerTest {
 
     @Test
     void testGetTaskById() throws Exception {
-        TaskResponse response = new TaskResponse(1L, "Test Task", "Description", TaskStatus.IN_PROGRESS, LocalDateTime.now());
+        TaskResponse response = new TaskResponse(1L, "Test Task", "Description", TaskStatus.IN_PROGRESS, LocalDateTime.now(), null);
         when(taskService.getTask(1L)).thenReturn(response);
         mockMvc.perform(get("/api/tasks/1"))
                 .andExpect(status().isOk())
@@ -69,8 +69,8 @@ class TaskControllerTest {
 
     @Test
     void testGetAllTasks() throws Exception {
-        TaskResponse task1 = new TaskResponse(1L, "Task 1", "Desc 1", TaskStatus.TODO, LocalDateTime.now());
-        TaskResponse task2 = new TaskResponse(2L, "Task 2", "Desc 2", TaskStatus.DONE, LocalDateTime.now());
+        TaskResponse task1 = new TaskResponse(1L, "Task 1", "Desc 1", TaskStatus.TODO, LocalDateTime.now(), null);
+        TaskResponse task2 = new TaskResponse(2L, "Task 2", "Desc 2", TaskStatus.DONE, LocalDateTime.now(), null);
         when(taskService.getAllTasks()).thenReturn(List.of(task1, task2));
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
@@ -82,8 +82,8 @@ class TaskControllerTest {
 
     @Test
     void testUpdateTask() throws Exception {
-        TaskRequest request = new TaskRequest("Updated Task", "Updated Desc", TaskStatus.DONE);
-        TaskResponse response = new TaskResponse(1L, "Updated Task", "Updated Desc", TaskStatus.DONE, LocalDateTime.now());
+        TaskRequest request = new TaskRequest("Updated Task", "Updated Desc", TaskStatus.DONE, null);
+        TaskResponse response = new TaskResponse(1L, "Updated Task", "Updated Desc", TaskStatus.DONE, LocalDateTime.now(), null);
         when(taskService.updateTask(eq(1L), any(TaskRequest.class))).thenReturn(response);
         mockMvc.perform(put("/api/tasks/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,54 @@
+package com.example.taskmanager.exception;
+
+import com.example.taskmanager.dto.ApiError;
+import com.example.taskmanager.tenant.TenantBudgetExceededException;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void testDomainExceptionsAreStackless() {
+        assertEquals(0, new ResourceNotFoundException("Task not found with id: 1").getStackTrace().length);
+        assertEquals(0, new WrongRequestException("Invalid task ID: 0").getStackTrace().length);
+        assertTrue(new InternalServerException("Database error").getStackTrace().length > 0);
+    }
+
+    @Test
+    void testNotFoundResponse() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/42");
+        ResponseEntity<ApiError> response = handler.handleResourceNotFoundException(new ResourceNotFoundException("Task not found with id: 42"), request);
+        assertEquals(404, response.getStatusCode().value());
+        assertEquals("/api/tasks/42", response.getBody().getPath());
+        assertEquals("Task not found with id: 42", response.getBody().getMessage());
+        assertNotNull(response.getBody().getTimestamp());
+    }
+
+    @Test
+    void testExhaustedConnectionBudgetIsTooManyRequests() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        TenantBudgetExceededException budgetExceeded = new TenantBudgetExceededException("Tenant starved exceeded its connection budget");
+        ResponseEntity<ApiError> response = handler.handleAllUncaughtException(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction", budgetExceeded), request);
+        assertEquals(429, response.getStatusCode().value());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Tenant starved exceeded its connection budget", response.getBody().getMessage());
+        ResponseEntity<ApiError> wrapped = handler.handleInternalServerException(new InternalServerException("Failed to retrieve task due to database error", budgetExceeded), request);
+        assertEquals(429, wrapped.getStatusCode().value());
+        assertEquals(0, budgetExceeded.getStackTrace().length);
+    }
+
+    @Test
+    void testWarningsAreRateLimited() {
+        RateLimitedLogger limited = new RateLimitedLogger(LoggerFactory.getLogger(GlobalExceptionHandlerTest.class), "test", 5, 60_000);
+        for (int i = 0; i < 100; i++) {
+            limited.warn("Warning {}", i);
+        }
+        assertEquals(95, limited.suppressedCount());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.taskmanager.invalidation;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.web.TaskListResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two nodes sharing one database and one in-process bus, each with its own near cache.
+ */
+class ClusteredInvalidationTest {
+
+    private static final long TTL_MILLIS = 1_500;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        InProcessInvalidationBus bus = new InProcessInvalidationBus();
+        nodeA = startNode(bus);
+        nodeB = startNode(bus);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void testWriteOnOneNodeInvalidatesTheOther() {
+        TaskService serviceA = nodeA.getBean(TaskService.class);
+        TaskService serviceB = nodeB.getBean(TaskService.class);
+        TaskResponse created = serviceB.createTask(new TaskRequest("Original", null, TaskStatus.TODO, null));
+        assertEquals("Original", serviceA.getTask(created.id()).title());
+        double hitsBefore = nearCacheHits(nodeA);
+        assertEquals("Original", serviceA.getTask(created.id()).title());
+        assertEquals(hitsBefore + 1, nearCacheHits(nodeA));
+
+        serviceB.updateTask(created.id(), new TaskRequest("Renamed", null, TaskStatus.IN_PROGRESS, null));
+        assertEquals("Renamed", serviceA.getTask(created.id()).title());
+        assertEquals(TaskStatus.IN_PROGRESS, serviceA.getTask(created.id()).status());
+
+        serviceB.deleteTask(created.id());
+        assertThrows(ResourceNotFoundException.class, () -> serviceA.getTask(created.id()));
+    }
+
+    @Test
+    void testLostInvalidationIsBoundedByTimeToLive() throws InterruptedException {
+        TaskService serviceA = nodeA.getBean(TaskService.class);
+        TaskResponse created = nodeB.getBean(TaskService.class).createTask(new TaskRequest("Before", null, TaskStatus.TODO, null));
+        assertEquals("Before", serviceA.getTask(created.id()).title());
+
+        // Written without publishing a change event, as if the invalidation had been lost.
+        TaskRepository repositoryB = nodeB.getBean(TaskRepository.class);
+        Task task = repositoryB.findById(created.id()).orElseThrow();
+        task.setTitle("After");
+        repositoryB.save(task);
+
+        Thread.sleep(TTL_MILLIS + 100);
+        assertEquals("After", serviceA.getTask(created.id()).title());
+    }
+
+    @Test
+    void testResetRetiresTheListCache() {
+        TaskListResponseCache listCache = nodeA.getBean(TaskListResponseCache.class);
+        long version = listCache.version("default");
+        listCache.put("default", version, new byte[]{1});
+        assertNotNull(listCache.get("default", version));
+
+        nodeA.getBean(TaskInvalidationRelay.class).onReset();
+        assertNull(listCache.get("default", listCache.version("default")));
+    }
+
+    private static ConfigurableApplicationContext startNode(InvalidationBus bus) {
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .initializers(context -> context.getBeanFactory().registerSingleton("sharedInvalidationBus", bus))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:cluster-test;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jmx.enabled=false",
+                        "--taskmanager.invalidation.near-cache-ttl=" + TTL_MILLIS + "ms");
+    }
+
+    private static double nearCacheHits(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get("tasks.nearcache").tag("result", "hit").counter().count();
+    }
+}
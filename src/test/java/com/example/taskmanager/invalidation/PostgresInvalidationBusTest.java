@@ -0,0 +1,97 @@
+package com.example.taskmanager.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostgresInvalidationBusTest {
+
+    private static EmbeddedPostgres postgres;
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSource.setMaximumPoolSize(2);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        dataSource.close();
+        postgres.close();
+    }
+
+    @Test
+    void testNotificationReachesOtherNode() throws Exception {
+        PostgresInvalidationBus publisher = bus();
+        PostgresInvalidationBus subscriber = bus();
+        BlockingQueue<InvalidationMessage> received = listen(subscriber);
+        try {
+            InvalidationMessage message = new InvalidationMessage("node-a", "acme", 42L, 3, false);
+            publisher.publish(message);
+            assertEquals(message, received.poll(10, TimeUnit.SECONDS));
+        } finally {
+            subscriber.stop();
+        }
+    }
+
+    @Test
+    void testNotificationIsSentOnlyWhenTheTransactionCommits() throws Exception {
+        PostgresInvalidationBus publisher = bus();
+        PostgresInvalidationBus subscriber = bus();
+        BlockingQueue<InvalidationMessage> received = listen(subscriber);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        try {
+            InvalidationMessage rolledBack = new InvalidationMessage("node-a", "acme", 7L, 1, false);
+            InvalidationMessage committed = new InvalidationMessage("node-a", "acme", 7L, 2, false);
+            transactionTemplate.executeWithoutResult(status -> {
+                publisher.publish(rolledBack);
+                status.setRollbackOnly();
+            });
+            transactionTemplate.executeWithoutResult(status -> publisher.publish(committed));
+            assertEquals(committed, received.poll(10, TimeUnit.SECONDS));
+        } finally {
+            subscriber.stop();
+        }
+    }
+
+    @Test
+    void testRejectsInvalidChannelName() {
+        assertThrows(IllegalArgumentException.class, () -> new PostgresInvalidationBus(dataSource, "", "", "", "tasks; drop table tasks", new ObjectMapper()));
+    }
+
+    private static BlockingQueue<InvalidationMessage> listen(PostgresInvalidationBus subscriber) throws InterruptedException {
+        BlockingQueue<InvalidationMessage> received = new LinkedBlockingQueue<>();
+        CountDownLatch listening = new CountDownLatch(1);
+        subscriber.subscribe(new InvalidationListener() {
+            @Override
+            public void onInvalidation(InvalidationMessage message) {
+                received.add(message);
+            }
+
+            @Override
+            public void onReset() {
+                listening.countDown();
+            }
+        });
+        subscriber.start();
+        assertTrue(listening.await(10, TimeUnit.SECONDS));
+        return received;
+    }
+
+    private static PostgresInvalidationBus bus() {
+        return new PostgresInvalidationBus(dataSource, postgres.getJdbcUrl("postgres", "postgres"), "postgres", "", "task_invalidation", new ObjectMapper());
+    }
+}
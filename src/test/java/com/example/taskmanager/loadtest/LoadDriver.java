@@ -0,0 +1,197 @@
+package com.example.taskmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP driver: each virtual-thread worker issues the next request as soon as the
+ * previous one completes, or after the {@code Retry-After} delay when it was throttled, as a well
+ * behaved client would. Latencies after warm-up are recorded per operation in HdrHistograms.
+ */
+class LoadDriver {
+
+    enum Operation {
+        READ,
+        WRITE,
+        LIST
+    }
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client;
+    private final String baseUrl;
+
+    LoadDriver(String baseUrl, boolean http2) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    long createTask(String tenant, String title) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(post(tenant, title), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+        }
+        String body = response.body();
+        int start = body.indexOf("\"id\":") + 5;
+        int end = body.indexOf(',', start);
+        return Long.parseLong(body.substring(start, end).trim());
+    }
+
+    Result run(String tenant, List<Long> ids, LoadTestSettings settings, int concurrency) throws InterruptedException {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3));
+        }
+        LongAdder errors = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        ZipfSampler sampler = new ZipfSampler(ids.size(), settings.hotKeySkew());
+        int totalWeight = settings.readWeight() + settings.writeWeight() + settings.listWeight();
+        long recordFrom = System.nanoTime() + settings.warmup().toNanos();
+        long deadline = recordFrom + settings.duration().toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+                        Operation operation = pick < settings.readWeight() ? Operation.READ
+                                : pick < settings.readWeight() + settings.writeWeight() ? Operation.WRITE
+                                : Operation.LIST;
+                        HttpRequest request = request(operation, tenant, ids.get(sampler.next()));
+                        long start = System.nanoTime();
+                        int status;
+                        long retryAfterSeconds = 0;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            status = response.statusCode();
+                            retryAfterSeconds = response.headers().firstValueAsLong("Retry-After").orElse(0);
+                        } catch (IOException e) {
+                            status = -1;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        long end = System.nanoTime();
+                        if (status == 429 && retryAfterSeconds > 0) {
+                            try {
+                                Thread.sleep(Math.min(TimeUnit.SECONDS.toMillis(retryAfterSeconds), TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - end))));
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                        }
+                        if (start < recordFrom) {
+                            continue;
+                        }
+                        if (status == 429) {
+                            rejected.increment();
+                        } else if (status < 200 || status >= 300) {
+                            errors.increment();
+                        } else {
+                            histograms.get(operation).recordValue(Math.min(MAX_TRACKABLE_MICROS, (end - start) / 1_000));
+                        }
+                    }
+                });
+            }
+        }
+        return new Result(histograms, errors.sum(), rejected.sum(), settings.duration());
+    }
+
+    private HttpRequest request(Operation operation, String tenant, long id) {
+        return switch (operation) {
+            case READ -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id))
+                    .header("X-Tenant-Id", tenant)
+                    .GET()
+                    .build();
+            case WRITE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id))
+                    .header("X-Tenant-Id", tenant)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(taskJson("Task " + id, ThreadLocalRandom.current().nextBoolean() ? "TODO" : "DONE")))
+                    .build();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks"))
+                    .header("X-Tenant-Id", tenant)
+                    .header("Accept-Encoding", "gzip")
+                    .GET()
+                    .build();
+        };
+    }
+
+    private HttpRequest post(String tenant, String title) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks"))
+                .header("X-Tenant-Id", tenant)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(taskJson(title, "TODO")))
+                .build();
+    }
+
+    private static String taskJson(String title, String status) {
+        return "{\"title\":\"" + title + "\",\"description\":\"Load test task\",\"status\":\"" + status + "\"}";
+    }
+
+    record Result(Map<Operation, Histogram> histograms, long errors, long rejected, Duration duration) {
+
+        Histogram combined() {
+            Histogram all = new Histogram(MAX_TRACKABLE_MICROS, 3);
+            histograms.values().forEach(all::add);
+            return all;
+        }
+
+        /**
+         * Share of requests that did not succeed. Requests rejected with 429 count as failures: a
+         * throttled request is one the client did not get served.
+         */
+        double errorRate() {
+            long failed = errors + rejected;
+            long total = combined().getTotalCount() + failed;
+            return total == 0 ? 0 : (double) failed / total;
+        }
+
+        void report(String scenario, PrintStream out) {
+            out.printf("%n== %s ==%n", scenario);
+            out.printf("%-6s %10s %10s %10s %10s %10s %10s%n", "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            histograms.forEach((operation, histogram) -> print(out, operation.name(), histogram));
+            print(out, "ALL", combined());
+            out.printf("errors=%d rejected(429)=%d%n", errors, rejected);
+        }
+
+        void writeHistograms(Path directory, String scenario) throws IOException {
+            Files.createDirectories(directory);
+            for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+                try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(scenario + "-" + entry.getKey().name().toLowerCase() + ".hgrm")))) {
+                    entry.getValue().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+
+        private void print(PrintStream out, String name, Histogram histogram) {
+            out.printf("%-6s %10d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    name,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / (double) duration.toSeconds(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanager.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load-test knobs, read from system properties so a run can be tuned from the command line, e.g.
+ * {@code mvn test -Pload-test -Dloadtest.concurrency=64 -Dloadtest.mix=70:20:10}.
+ */
+record LoadTestSettings(
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        int noisyConcurrency,
+        int readWeight,
+        int writeWeight,
+        int listWeight,
+        int seedTasks,
+        double hotKeySkew,
+        long p99SloMillis,
+        double maxP99Ratio,
+        double maxErrorRate,
+        boolean http2
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        String[] mix = System.getProperty("loadtest.mix", "80:15:5").split(":");
+        return new LoadTestSettings(
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20)),
+                Integer.getInteger("loadtest.concurrency", 8),
+                Integer.getInteger("loadtest.noisy-concurrency", 64),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Integer.getInteger("loadtest.seed-tasks", 500),
+                Double.parseDouble(System.getProperty("loadtest.hot-key-skew", "1.1")),
+                Long.getLong("loadtest.p99-slo-ms", 250),
+                Double.parseDouble(System.getProperty("loadtest.max-p99-ratio", "3.0")),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                Boolean.parseBoolean(System.getProperty("loadtest.http2", "false"))
+        );
+    }
+}
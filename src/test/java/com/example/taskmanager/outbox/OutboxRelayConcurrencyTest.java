@@ -0,0 +1,128 @@
+package com.example.taskmanager.outbox;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.OutboxEventRepository;
+import com.example.taskmanager.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two relays draining one Postgres outbox at the same time. Batches are claimed with
+ * {@code SKIP LOCKED}, so this needs a real Postgres rather than H2.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "taskmanager.outbox.relay-interval-ms=3600000",
+        "taskmanager.reminders.enabled=false"
+})
+@DirtiesContext
+class OutboxRelayConcurrencyTest {
+
+    private static final int TASKS = 3;
+    private static final int UPDATES_PER_TASK = 6;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TestConfiguration
+    static class PostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean(destroyMethod = "close")
+        DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(embeddedPostgres.getJdbcUrl("postgres", "postgres"));
+            dataSource.setMaximumPoolSize(6);
+            return dataSource;
+        }
+    }
+
+    @Test
+    void testConcurrentRelaysKeepPerTaskOrder() throws Exception {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(taskService.createTask(new TaskRequest("Task " + i, null, TaskStatus.TODO, null)));
+        }
+        // Round-robin updates interleave the events of a few tasks, so concurrent batches share tasks.
+        for (int round = 1; round <= UPDATES_PER_TASK; round++) {
+            for (TaskResponse task : tasks) {
+                taskService.updateTask(task.id(), new TaskRequest(task.title() + " v" + round, null, TaskStatus.IN_PROGRESS, null));
+            }
+        }
+
+        List<OutboxMessage> delivered = new ArrayList<>();
+        OutboxProperties properties = new OutboxProperties("memory", 4, Duration.ofDays(1), Path.of("unused"), 1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> relays = new ArrayList<>();
+            // One relay holds its claimed batch much longer, so the other one would overtake it.
+            for (long latencyMillis : new long[]{100, 0}) {
+                OutboxSink sink = batch -> {
+                    Thread.sleep(latencyMillis);
+                    synchronized (delivered) {
+                        delivered.addAll(batch);
+                    }
+                };
+                OutboxRelay relay = new OutboxRelay(outboxEventRepository, sink, properties, transactionTemplate, new SimpleMeterRegistry());
+                relays.add(executor.submit(() -> {
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                    while (hasUnpublishedEvents() && System.nanoTime() < deadline) {
+                        relay.relayPending();
+                    }
+                }));
+            }
+            for (Future<?> relay : relays) {
+                relay.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(hasUnpublishedEvents());
+        assertEquals(TASKS * (UPDATES_PER_TASK + 1), delivered.size());
+        assertEquals(delivered.size(), delivered.stream().map(OutboxMessage::id).distinct().count());
+        Map<Long, Long> lastDelivered = new HashMap<>();
+        for (OutboxMessage message : delivered) {
+            Long previous = lastDelivered.put(message.taskId(), message.id());
+            assertTrue(previous == null || previous < message.id(), "Event " + message.id() + " of task " + message.taskId() + " overtook event " + previous);
+        }
+    }
+
+    private boolean hasUnpublishedEvents() {
+        return outboxEventRepository.findAll().stream().anyMatch(event -> event.getPublishedAt() == null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.taskmanager.outbox;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.OutboxEventRepository;
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-test;DB_CLOSE_DELAY=-1",
+        "taskmanager.outbox.sink=memory",
+        "taskmanager.outbox.relay-interval-ms=3600000"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxBroker broker;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testTaskChangesAreRelayedInOrder() {
+        TaskResponse created = taskService.createTask(new TaskRequest("Outbox Task", "Description", TaskStatus.TODO, null));
+        taskService.updateTask(created.id(), new TaskRequest("Outbox Task", "Description", TaskStatus.DONE, null));
+        taskService.deleteTask(created.id());
+
+        outboxRelay.relayPending();
+
+        List<String> types = broker.getMessages().stream()
+                .filter(message -> message.taskId().equals(created.id()))
+                .map(OutboxMessage::eventType)
+                .toList();
+        assertEquals(List.of("TASK_CREATED", "TASK_UPDATED", "TASK_DELETED"), types);
+        assertTrue(outboxEventRepository.findAll().stream().allMatch(event -> event.getPublishedAt() != null));
+    }
+
+    @Test
+    void testFailedChangeWritesNoEvent() {
+        long before = outboxEventRepository.count();
+        // The change publishes its event and writes the outbox row, then the transaction fails.
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(new TaskRequest("Rolled Back", null, TaskStatus.TODO, null));
+            assertEquals(before + 1, outboxEventRepository.count());
+            throw new IllegalStateException("Failure after the event was published");
+        }));
+        assertEquals(before, outboxEventRepository.count());
+    }
+
+    @Test
+    void testPublishedEventsArePruned() {
+        taskService.createTask(new TaskRequest("Pruned Task", "Description", TaskStatus.TODO, null));
+        outboxRelay.relayPending();
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deletePublishedBefore(LocalDateTime.now().plusMinutes(1)));
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void testInMemoryBrokerKeepsOnlyTheLatestMessages() {
+        InMemoryOutboxBroker bounded = new InMemoryOutboxBroker(2);
+        List<Long> delivered = new ArrayList<>();
+        bounded.subscribe(message -> delivered.add(message.id()));
+        bounded.publish(List.of(
+                new OutboxMessage(1L, "default", 7L, "TASK_CREATED", "{}", LocalDateTime.now()),
+                new OutboxMessage(2L, "default", 7L, "TASK_UPDATED", "{}", LocalDateTime.now()),
+                new OutboxMessage(3L, "default", 7L, "TASK_DELETED", "{}", LocalDateTime.now())));
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertEquals(List.of(2L, 3L), bounded.getMessages().stream().map(OutboxMessage::id).toList());
+    }
+
+    @Test
+    void testFileLogSinkAppendsJsonLines(@TempDir Path dir) throws Exception {
+        Path log = dir.resolve("events.log");
+        FileLogOutboxSink sink = new FileLogOutboxSink(log, new ObjectMapper().findAndRegisterModules());
+        sink.publish(List.of(
+                new OutboxMessage(1L, "default", 7L, "TASK_CREATED", "{}", LocalDateTime.now()),
+                new OutboxMessage(2L, "default", 7L, "TASK_UPDATED", "{}", LocalDateTime.now())));
+        List<String> lines = Files.readAllLines(log);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("TASK_UPDATED"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskmanager.reminder;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.invalidation.InProcessInvalidationBus;
+import com.example.taskmanager.invalidation.InvalidationBus;
+import com.example.taskmanager.invalidation.InvalidationMessage;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reminder-test;DB_CLOSE_DELAY=-1",
+        "taskmanager.reminders.sink=memory",
+        "taskmanager.reminders.tick-ms=3600000"
+})
+class ReminderEngineTest {
+
+    @Autowired
+    private ReminderEngine reminderEngine;
+
+    @Autowired
+    private InMemoryReminderSink sink;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        reminderEngine.tick();
+        sink.clear();
+    }
+
+    @Test
+    void testOverdueTaskFiresOnce() throws InterruptedException {
+        TaskResponse task = taskService.createTask(new TaskRequest("Overdue", null, TaskStatus.TODO, LocalDateTime.now().minusMinutes(1)));
+        tickAfterNextSecond();
+        taskService.updateTask(task.id(), new TaskRequest("Overdue, renamed", null, TaskStatus.IN_PROGRESS, null));
+        reminderEngine.tick();
+        assertEquals(List.of(task.id()), firedTaskIds());
+    }
+
+    @Test
+    void testUpdatesRearmAndCancelReminders() throws InterruptedException {
+        TaskResponse postponed = taskService.createTask(new TaskRequest("Postponed", null, TaskStatus.TODO, LocalDateTime.now().minusMinutes(1)));
+        taskService.updateTask(postponed.id(), new TaskRequest("Postponed", null, TaskStatus.TODO, LocalDateTime.now().plusMinutes(5)));
+        TaskResponse done = taskService.createTask(new TaskRequest("Done", null, TaskStatus.TODO, LocalDateTime.now().minusMinutes(1)));
+        taskService.updateTask(done.id(), new TaskRequest("Done", null, TaskStatus.DONE, null));
+        TaskResponse deleted = taskService.createTask(new TaskRequest("Deleted", null, TaskStatus.TODO, LocalDateTime.now().minusMinutes(1)));
+        taskService.deleteTask(deleted.id());
+        TaskResponse brought = taskService.createTask(new TaskRequest("Brought forward", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1)));
+        taskService.updateTask(brought.id(), new TaskRequest("Brought forward", null, TaskStatus.TODO, LocalDateTime.now().minusSeconds(1)));
+        tickAfterNextSecond();
+        assertEquals(List.of(brought.id()), firedTaskIds());
+    }
+
+    @Test
+    void testWindowLoadCoversAllTenants() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        Long tenantA = saveInTenant("tenant-a", "Due A", now.minusMinutes(5));
+        Long tenantB = saveInTenant("tenant-b", "Due B", now.minusMinutes(10));
+        Long tooOld = saveInTenant("tenant-b", "Too old", now.minusDays(2));
+        Long later = saveInTenant("tenant-a", "Later", now.plusDays(2));
+        Thread.sleep(1_100);
+        InMemoryReminderSink freshSink = new InMemoryReminderSink();
+        ReminderEngine freshEngine = new ReminderEngine(taskRepository, entityManager, transactionTemplate, freshSink,
+                new ReminderProperties(true, "memory", Duration.ofMinutes(10), Duration.ofHours(1), 1), new InProcessInvalidationBus(), new SimpleMeterRegistry());
+        freshEngine.tick();
+        List<TaskReminder> fired = freshSink.getReminders().stream()
+                .filter(reminder -> List.of(tenantA, tenantB, tooOld, later).contains(reminder.taskId()))
+                .toList();
+        assertEquals(Set.of(tenantA, tenantB), fired.stream().map(TaskReminder::taskId).collect(Collectors.toSet()));
+        assertEquals(Set.of("tenant-a", "tenant-b"), fired.stream().map(TaskReminder::tenantId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testTaskChangedElsewhereIsCheckedBeforeFiring() throws InterruptedException {
+        TaskResponse completed = taskService.createTask(new TaskRequest("Completed elsewhere", null, TaskStatus.TODO, LocalDateTime.now().minusMinutes(1)));
+        TaskResponse postponed = taskService.createTask(new TaskRequest("Postponed elsewhere", null, TaskStatus.TODO, LocalDateTime.now().minusMinutes(1)));
+        // Written without a change event, as if another node had made the change and its message was lost.
+        Task stored = taskRepository.findById(completed.id()).orElseThrow();
+        stored.setStatus(TaskStatus.DONE);
+        taskRepository.save(stored);
+        stored = taskRepository.findById(postponed.id()).orElseThrow();
+        stored.setDueAt(LocalDateTime.now().plusMinutes(5));
+        taskRepository.save(stored);
+        tickAfterNextSecond();
+        assertEquals(List.of(), firedTaskIds());
+    }
+
+    @Test
+    void testTaskAnnouncedByAnotherNodeIsArmed() throws InterruptedException {
+        Long id = saveInTenant("default", "Created elsewhere", LocalDateTime.now().plusSeconds(1));
+        invalidationBus.publish(new InvalidationMessage("another-node", "default", id, 0, false));
+        reminderEngine.tick();
+        assertEquals(List.of(), firedTaskIds());
+        Thread.sleep(1_000);
+        tickAfterNextSecond();
+        assertEquals(List.of(id), firedTaskIds());
+    }
+
+    private Long saveInTenant(String tenant, String title, LocalDateTime dueAt) {
+        TenantContext.set(tenant);
+        try {
+            Task task = new Task(null, title, null, TaskStatus.TODO, null);
+            task.setDueAt(dueAt);
+            return taskRepository.save(task).getId();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    // Reminders fire on the first one-second tick after they fall due.
+    private void tickAfterNextSecond() throws InterruptedException {
+        Thread.sleep(1_100);
+        reminderEngine.tick();
+    }
+
+    private List<Long> firedTaskIds() {
+        return sink.getReminders().stream().map(TaskReminder::taskId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.taskmanager.reminder;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void testFiresOnDeadlineAcrossLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1_000);
+        long[] deadlines = {1_000, 1_001, 1_063, 1_064, 1_100, 5_096, 300_000, 20_000_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+        List<Long> fired = new ArrayList<>();
+        for (long tick = 1_000; tick <= 20_000_000; tick++) {
+            long now = tick;
+            wheel.advanceTo(tick, deadline -> {
+                assertEquals(now, deadline);
+                fired.add(deadline);
+            });
+        }
+        assertEquals(deadlines.length, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testPastDeadlineFiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(500);
+        wheel.schedule(10, "late");
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(500, fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void testCancelledTimerDoesNotFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<String> kept = wheel.schedule(100, "kept");
+        TimingWheel.Timer<String> cancelled = wheel.schedule(100, "cancelled");
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(200, fired::add);
+        assertEquals(List.of("kept"), fired);
+        assertFalse(wheel.cancel(kept));
+    }
+
+    @Test
+    void testLargeAdvanceFiresEverythingDue() {
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        Random random = new Random(42);
+        int due = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            long deadline = random.nextInt(1_000_000);
+            wheel.schedule(deadline, deadline);
+            if (deadline <= 600_000) {
+                due++;
+            }
+        }
+        long[] fired = new long[1];
+        wheel.advanceTo(600_000, deadline -> {
+            assertTrue(deadline <= 600_000);
+            fired[0]++;
+        });
+        assertEquals(due, fired[0]);
+        assertEquals(1_000_000 - due, wheel.size());
+    }
+}
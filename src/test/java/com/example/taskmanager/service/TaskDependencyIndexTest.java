@@ -0,0 +1,264 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.WrongRequestException;
+import com.example.taskmanager.model.TaskDependency;
+import com.example.taskmanager.model.TaskDependencyChange;
+import com.example.taskmanager.model.TaskDependencyRevision;
+import com.example.taskmanager.repository.TaskDependencyChangeRepository;
+import com.example.taskmanager.repository.TaskDependencyRepository;
+import com.example.taskmanager.repository.TaskDependencyRevisionRepository;
+import com.example.taskmanager.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDependencyIndexTest {
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private TaskDependencyRevisionRepository taskDependencyRevisionRepository;
+
+    @Mock
+    private TaskDependencyChangeRepository taskDependencyChangeRepository;
+
+    // Stand-ins for the database: revisions and changes as written, and revisions as other
+    // transactions see them while one is open.
+    private final Map<String, TaskDependencyRevision> revisions = new HashMap<>();
+    private final Map<String, Long> committedRevisions = new HashMap<>();
+    private final List<TaskDependencyChange> changes = new ArrayList<>();
+
+    private TaskDependencyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskDependencyIndex(taskDependencyRepository, taskDependencyRevisionRepository, taskDependencyChangeRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(index);
+    }
+
+    @Test
+    void testLoadsExistingEdges() {
+        TaskDependency edge = new TaskDependency(1L, 2L);
+        edge.setId(10L);
+        when(taskDependencyRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(eq("default"), eq(0L), any(Limit.class))).thenReturn(List.of(edge));
+        assertArrayEquals(new long[]{1L}, index.transitiveBlockers(2L));
+        assertEquals(1, index.edgeCount());
+    }
+
+    @Test
+    void testRejectsCycle() {
+        emptyDatabase();
+        assertTrue(index.addEdge(1L, 2L));
+        assertTrue(index.addEdge(2L, 3L));
+        assertThrows(WrongRequestException.class, () -> index.addEdge(3L, 1L));
+        assertThrows(WrongRequestException.class, () -> index.addEdge(4L, 4L));
+        assertFalse(index.addEdge(1L, 2L));
+        assertEquals(2, index.edgeCount());
+    }
+
+    @Test
+    void testPlanOrdersBlockersFirst() {
+        emptyDatabase();
+        index.addEdge(1L, 3L);
+        index.addEdge(2L, 3L);
+        index.addEdge(3L, 4L);
+        index.addEdge(1L, 2L);
+        long[] plan = index.plan(4L);
+        assertEquals(4, plan.length);
+        assertEquals(4L, plan[3]);
+        assertTrue(position(plan, 1L) < position(plan, 2L));
+        assertTrue(position(plan, 2L) < position(plan, 3L));
+        assertEquals(3, index.transitiveBlockers(4L).length);
+    }
+
+    @Test
+    void testRemoveTaskDropsEdgesInBothDirections() {
+        emptyDatabase();
+        index.addEdge(1L, 2L);
+        index.addEdge(2L, 3L);
+        index.removeTask(2L);
+        assertEquals(0, index.edgeCount());
+        assertEquals(0, index.transitiveBlockers(3L).length);
+        assertTrue(index.addEdge(3L, 1L));
+    }
+
+    @Test
+    void testTenantsHaveSeparateGraphs() {
+        emptyDatabase();
+        try {
+            TenantContext.set("tenant-a");
+            index.addEdge(1L, 2L);
+            TenantContext.set("tenant-b");
+            assertEquals(0, index.transitiveBlockers(2L).length);
+            assertTrue(index.addEdge(2L, 1L));
+            TenantContext.set("tenant-a");
+            assertArrayEquals(new long[]{1L}, index.transitiveBlockers(2L));
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @Test
+    void testSeesEdgesCommittedByAnotherNode() {
+        List<TaskDependency> table = new ArrayList<>();
+        when(taskDependencyRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> List.copyOf(table));
+        trackRevisions();
+        TaskDependencyIndex otherNode = new TaskDependencyIndex(taskDependencyRepository, taskDependencyRevisionRepository, taskDependencyChangeRepository);
+        assertEquals(0, index.transitiveBlockers(2L).length);
+
+        assertTrue(otherNode.addEdge(1L, 2L));
+        TaskDependency edge = new TaskDependency(1L, 2L);
+        edge.setId(1L);
+        table.add(edge);
+
+        assertArrayEquals(new long[]{1L}, index.transitiveBlockers(2L));
+        assertThrows(WrongRequestException.class, () -> index.addEdge(2L, 1L));
+        // Each node read the edges once and caught up from the change table afterwards.
+        verify(taskDependencyRepository, times(2)).findByTenantIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void testReloadsEdgesWhenChangesHaveBeenPruned() {
+        List<TaskDependency> table = new ArrayList<>();
+        when(taskDependencyRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> List.copyOf(table));
+        trackRevisions();
+        TaskDependencyIndex otherNode = new TaskDependencyIndex(taskDependencyRepository, taskDependencyRevisionRepository, taskDependencyChangeRepository);
+        assertEquals(0, index.edgeCount());
+
+        otherNode.addEdge(1L, 2L);
+        otherNode.addEdge(2L, 3L);
+        for (long id = 1; id <= 2; id++) {
+            TaskDependency edge = new TaskDependency(id, id + 1);
+            edge.setId(id);
+            table.add(edge);
+        }
+        changes.remove(0);
+
+        assertArrayEquals(new long[]{2L, 1L}, index.transitiveBlockers(3L));
+        verify(taskDependencyRepository, times(3)).findByTenantIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void testEdgesReachTheSharedGraphOnlyOnCommit() {
+        emptyDatabase();
+        assertEquals(0, index.edgeCount());
+
+        begin();
+        assertTrue(index.addEdge(1L, 2L));
+        assertThrows(WrongRequestException.class, () -> index.addEdge(2L, 1L));
+        assertFalse(index.addEdge(1L, 2L));
+        assertEquals(0, index.transitiveBlockers(2L).length);
+        commit();
+
+        assertArrayEquals(new long[]{1L}, index.transitiveBlockers(2L));
+        verify(taskDependencyRepository, times(1)).findByTenantIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong(), any(Limit.class));
+        verify(taskDependencyChangeRepository, never())
+                .findByTenantIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByRevisionAsc(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void testRolledBackEdgesAreNeverSeen() {
+        emptyDatabase();
+        index.addEdge(1L, 2L);
+
+        begin();
+        index.removeTask(2L);
+        assertTrue(index.addEdge(2L, 1L));
+        rollback();
+
+        assertArrayEquals(new long[]{1L}, index.transitiveBlockers(2L));
+        assertThrows(WrongRequestException.class, () -> index.addEdge(2L, 1L));
+    }
+
+    @Test
+    void testDeepChainDoesNotOverflow() {
+        emptyDatabase();
+        for (long id = 1; id < 100_000; id++) {
+            index.addEdge(id, id + 1);
+        }
+        assertThrows(WrongRequestException.class, () -> index.addEdge(100_000L, 1L));
+        assertEquals(100_000, index.plan(100_000L).length);
+    }
+
+    private void emptyDatabase() {
+        when(taskDependencyRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong(), any(Limit.class))).thenReturn(List.of());
+        trackRevisions();
+    }
+
+    private void trackRevisions() {
+        lenient().when(taskDependencyRevisionRepository.findRevision(anyString())).thenAnswer(invocation -> {
+            String tenantId = invocation.getArgument(0);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                return Optional.ofNullable(committedRevisions.get(tenantId));
+            }
+            return Optional.ofNullable(revisions.get(tenantId)).map(TaskDependencyRevision::getRevision);
+        });
+        lenient().when(taskDependencyRevisionRepository.findForUpdateByTenantId(anyString()))
+                .thenAnswer(invocation -> Optional.of(revisions.computeIfAbsent(invocation.getArgument(0), tenantId -> new TaskDependencyRevision(tenantId, 0))));
+        lenient().when(taskDependencyChangeRepository.save(any(TaskDependencyChange.class))).thenAnswer(invocation -> {
+            changes.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(taskDependencyChangeRepository.findByTenantIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByRevisionAsc(anyString(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> changes.stream()
+                        .filter(change -> change.getTenantId().equals(invocation.getArgument(0)))
+                        .filter(change -> change.getRevision() > invocation.<Long>getArgument(1) && change.getRevision() <= invocation.<Long>getArgument(2))
+                        .toList());
+    }
+
+    private void begin() {
+        revisions.forEach((tenantId, revision) -> committedRevisions.put(tenantId, revision.getRevision()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        committedRevisions.forEach((tenantId, revision) -> revisions.get(tenantId).setRevision(revision));
+        changes.removeIf(change -> change.getRevision() > committedRevisions.get(change.getTenantId()));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    private static int position(long[] values, long value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
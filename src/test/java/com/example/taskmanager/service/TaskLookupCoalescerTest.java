@@ -0,0 +1,103 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskLookupCoalescerTest {
+
+    private TaskLookupCoalescer coalescer;
+    private ExecutorService executor;
+    private TaskResponse response;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new TaskLookupCoalescer(new SimpleMeterRegistry());
+        executor = Executors.newFixedThreadPool(8);
+        response = new TaskResponse(1L, "Test Task", "Test Description", TaskStatus.TODO, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<TaskResponse> leader = executor.submit(() -> coalescer.load(1L, () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return response;
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        List<Future<TaskResponse>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> coalescer.load(1L, () -> {
+                calls.incrementAndGet();
+                return response;
+            })));
+        }
+        while (coalescer.getCoalescedCalls() < 5) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        assertSame(response, leader.get(5, TimeUnit.SECONDS));
+        for (Future<TaskResponse> follower : followers) {
+            assertSame(response, follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.getLeaderCalls());
+        assertEquals(5, coalescer.getCoalescedCalls());
+    }
+
+    @Test
+    void testInvalidateStartsFreshCall() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<TaskResponse> leader = executor.submit(() -> coalescer.load(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return response;
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        coalescer.invalidate(1L);
+        TaskResponse updated = new TaskResponse(1L, "Updated Task", "Test Description", TaskStatus.DONE, null, null);
+        assertSame(updated, coalescer.load(1L, () -> updated));
+        release.countDown();
+        assertSame(response, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalescer.getCoalescedCalls());
+    }
+
+    @Test
+    void testFailureIsNotCached() {
+        assertThrows(ResourceNotFoundException.class, () -> coalescer.load(1L, () -> {
+            throw new ResourceNotFoundException("Task not found with id: 1");
+        }));
+        assertSame(response, coalescer.load(1L, () -> response));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
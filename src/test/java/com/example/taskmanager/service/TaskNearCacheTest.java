@@ -0,0 +1,64 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.invalidation.InvalidationProperties;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskNearCacheTest {
+
+    private TaskNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskNearCache(new InvalidationProperties(null, null, Duration.ofMinutes(1), 100), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testInvalidationRejectsOlderLoad() {
+        cache.put(1L, 1, task("v1"));
+        cache.invalidate(TenantContext.DEFAULT_TENANT, 1L, 2, false);
+        assertNull(cache.get(1L));
+        cache.put(1L, 1, task("v1 read before the change"));
+        assertNull(cache.get(1L));
+        cache.put(1L, 2, task("v2"));
+        assertEquals("v2", cache.get(1L).title());
+    }
+
+    @Test
+    void testInvalidationKeepsNewerEntry() {
+        cache.put(1L, 3, task("v3"));
+        cache.invalidate(TenantContext.DEFAULT_TENANT, 1L, 2, false);
+        assertEquals("v3", cache.get(1L).title());
+    }
+
+    @Test
+    void testDeletionTombstonesAllVersions() {
+        cache.put(1L, 1, task("v1"));
+        cache.invalidate(TenantContext.DEFAULT_TENANT, 1L, 1, true);
+        cache.put(1L, 5, task("v5"));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void testEntriesAreScopedByTenant() {
+        cache.put(1L, 1, task("default"));
+        TenantContext.set("other");
+        try {
+            assertNull(cache.get(1L));
+        } finally {
+            TenantContext.clear();
+        }
+        cache.invalidate("other", 1L, 2, false);
+        assertEquals("default", cache.get(1L).title());
+    }
+
+    private static TaskResponse task(String title) {
+        return new TaskResponse(1L, title, null, TaskStatus.TODO, null, null);
+    }
+}
@@ -3,18 +3,25 @@ package com.example.taskmanager.service;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.exception.WrongRequestException;
+import com.example.taskmanager.invalidation.InvalidationProperties;
 import com.example.taskmanager.mapper.TaskMapper;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,15 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskDependencyService taskDependencyService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     private TaskServiceImpl taskService;
 
     private Task testTask;
@@ -33,18 +49,18 @@ class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
-        taskService = new TaskServiceImpl(taskRepository, taskMapper);
+        taskService = new TaskServiceImpl(taskRepository, taskMapper, new TaskLookupCoalescer(new SimpleMeterRegistry()), new TaskNearCache(new InvalidationProperties(null, null, null, null), new SimpleMeterRegistry()), taskDependencyService, eventPublisher, entityManager);
         testTask = new Task();
         testTask.setId(1L);
         testTask.setTitle("Test Task");
         testTask.setDescription("Test Description");
         testTask.setStatus(TaskStatus.TODO);
-        testTaskResponse = new TaskResponse(1L, "Test Task", "Test Description", TaskStatus.TODO, null);
+        testTaskResponse = new TaskResponse(1L, "Test Task", "Test Description", TaskStatus.TODO, null, null);
     }
 
     @Test
     void testCreateTask() {
-        TaskRequest request = new TaskRequest("Test Task", "Test Description", TaskStatus.TODO);
+        TaskRequest request = new TaskRequest("Test Task", "Test Description", TaskStatus.TODO, null);
         when(taskMapper.dtoToEntity(request)).thenReturn(testTask);
         when(taskRepository.save(testTask)).thenReturn(testTask);
         when(taskMapper.entityToDTO(testTask)).thenReturn(testTaskResponse);
@@ -76,27 +92,29 @@ class TaskServiceTest {
         Task task2 = new Task();
         task2.setId(2L);
         task2.setTitle("Task 2");
-        TaskResponse response2 = new TaskResponse(2L, "Task 2", null, null, null);
-        when(taskRepository.findAll()).thenReturn(List.of(testTask, task2));
+        TaskResponse response2 = new TaskResponse(2L, "Task 2", null, null, null, null);
+        when(taskRepository.streamAll()).thenReturn(Stream.of(testTask, task2));
         when(taskMapper.entityToDTO(testTask)).thenReturn(testTaskResponse);
         when(taskMapper.entityToDTO(task2)).thenReturn(response2);
         List<TaskResponse> result = taskService.getAllTasks();
         assertEquals(2, result.size());
         assertEquals("Test Task", result.get(0).title());
         assertEquals("Task 2", result.get(1).title());
+        verify(entityManager).detach(testTask);
+        verify(entityManager).detach(task2);
     }
 
     @Test
     void testUpdateTask() {
-        TaskRequest request = new TaskRequest("Updated Task", "Updated Desc", TaskStatus.DONE);
+        TaskRequest request = new TaskRequest("Updated Task", "Updated Desc", TaskStatus.DONE, null);
         Task updatedTask = new Task();
         updatedTask.setId(1L);
         updatedTask.setTitle("Updated Task");
         updatedTask.setDescription("Updated Desc");
         updatedTask.setStatus(TaskStatus.DONE);
-        TaskResponse updatedResponse = new TaskResponse(1L, "Updated Task", "Updated Desc", TaskStatus.DONE, null);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(testTask)).thenReturn(updatedTask);
+        TaskResponse updatedResponse = new TaskResponse(1L, "Updated Task", "Updated Desc", TaskStatus.DONE, null, null);
+        when(taskRepository.findForUpdateById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.saveAndFlush(testTask)).thenReturn(updatedTask);
         when(taskMapper.entityToDTO(updatedTask)).thenReturn(updatedResponse);
         TaskResponse result = taskService.updateTask(1L, request);
         assertEquals("Updated Task", result.title());
@@ -105,9 +123,19 @@ class TaskServiceTest {
 
     @Test
     void testDeleteTask() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findForUpdateById(1L)).thenReturn(Optional.of(testTask));
         doNothing().when(taskRepository).delete(testTask);
         taskService.deleteTask(1L);
         verify(taskRepository, times(1)).delete(testTask);
+        verify(taskDependencyService, times(1)).removeAllDependencies(1L);
+    }
+
+    @Test
+    void testUpdateTaskToInProgress_Blocked() {
+        TaskRequest request = new TaskRequest("Test Task", "Test Description", TaskStatus.IN_PROGRESS, null);
+        when(taskRepository.findForUpdateById(1L)).thenReturn(Optional.of(testTask));
+        doThrow(new WrongRequestException("Task 1 is blocked by 1 unfinished task(s)")).when(taskDependencyService).assertUnblocked(1L);
+        assertThrows(WrongRequestException.class, () -> taskService.updateTask(1L, request));
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 }
\ No newline at end of file
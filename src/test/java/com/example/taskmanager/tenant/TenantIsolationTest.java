@@ -0,0 +1,99 @@
+package com.example.taskmanager.tenant;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "taskmanager.tenant.overrides.starved.max-connections=0",
+        "taskmanager.tenant.overrides.starved.connection-wait=10ms"
+})
+@AutoConfigureMockMvc
+class TenantIsolationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testTenantCannotSeeOtherTenantsTasks() throws Exception {
+        TaskRequest request = new TaskRequest("Tenant A Task", "Visible to tenant A only", TaskStatus.TODO, null);
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header("X-Tenant-Id", "tenant-a")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(body, TaskResponse.class).id();
+
+        mockMvc.perform(get("/api/tasks/" + id).header("X-Tenant-Id", "tenant-a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Tenant A Task"));
+        mockMvc.perform(get("/api/tasks/" + id).header("X-Tenant-Id", "tenant-b"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks").header("X-Tenant-Id", "tenant-b"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + id + ")]").isEmpty());
+        mockMvc.perform(delete("/api/tasks/" + id).header("X-Tenant-Id", "tenant-b"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testExhaustedConnectionBudgetIsTooManyRequests() throws Exception {
+        mockMvc.perform(get("/api/tasks/1").header("X-Tenant-Id", "starved"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(get("/api/tasks").header("X-Tenant-Id", "starved"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testRequestsWithoutTenantHeaderUseTheDefaultTenant() throws Exception {
+        Long id = createTask("default", "Default Tenant Task");
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Default Tenant Task"));
+    }
+
+    @Test
+    void testTenantCannotRemoveOtherTenantsDependencies() throws Exception {
+        Long blockerId = createTask("tenant-a", "Tenant A Blocker");
+        Long blockedId = createTask("tenant-a", "Tenant A Blocked");
+        mockMvc.perform(post("/api/tasks/" + blockedId + "/blockers/" + blockerId).header("X-Tenant-Id", "tenant-a"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(delete("/api/tasks/" + blockedId + "/blockers/" + blockerId).header("X-Tenant-Id", "tenant-b"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/" + blockedId + "/blockers").header("X-Tenant-Id", "tenant-a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(blockerId));
+    }
+
+    @Test
+    void testInvalidTenantIsRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks").header("X-Tenant-Id", "not a tenant!"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long createTask(String tenantId, String title) throws Exception {
+        TaskRequest request = new TaskRequest(title, null, TaskStatus.TODO, null);
+        String body = mockMvc.perform(post("/api/tasks")
+                        .header("X-Tenant-Id", tenantId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, TaskResponse.class).id();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanager.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantRequestFilterTest {
+
+    private TenantBudgets tenantBudgets;
+    private TenantRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        TenantProperties properties = new TenantProperties(null, Set.of("tenant-a", "tenant-b"),
+                new TenantProperties.Limits(1, 1, Duration.ofMillis(10)),
+                Map.of());
+        tenantBudgets = new TenantBudgets(properties, new SimpleMeterRegistry());
+        filter = new TenantRequestFilter(properties, tenantBudgets, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void testBindsTenantForTheRequest() throws Exception {
+        String[] seen = new String[1];
+        FilterChain chain = (request, response) -> seen[0] = TenantContext.current();
+        filter.doFilter(request("tenant-a"), new MockHttpServletResponse(), chain);
+        assertEquals("tenant-a", seen[0]);
+        assertFalse(TenantContext.isSet());
+    }
+
+    @Test
+    void testBurstFromOneTenantDoesNotRejectAnother() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        FilterChain chain = (request, response) -> {
+            filter.doFilter(request("tenant-a"), rejected, (req, res) -> fail("quota exceeded"));
+            filter.doFilter(request("tenant-b"), other, (req, res) -> {});
+        };
+        filter.doFilter(request("tenant-a"), new MockHttpServletResponse(), chain);
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(200, other.getStatus());
+        assertEquals(1, tenantBudgets.forTenant("tenant-a").rejectedRequests().count());
+        assertEquals(0, tenantBudgets.forTenant("tenant-b").rejectedRequests().count());
+    }
+
+    @Test
+    void testRequestsWithoutHeaderRunAsDefaultTenantWithoutQuota() throws Exception {
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+        String[] seen = new String[1];
+        FilterChain chain = (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), nested, (req, res) -> {
+            seen[0] = TenantContext.current();
+            assertFalse(TenantContext.isSet(), "default tenant connections must not count against a budget");
+        });
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), chain);
+        assertEquals(200, nested.getStatus());
+        assertEquals(TenantContext.DEFAULT_TENANT, seen[0]);
+    }
+
+    @Test
+    void testUnlistedTenantsShareOneBudget() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        FilterChain chain = (request, response) -> filter.doFilter(request("rotated-2"), rejected, (req, res) -> fail("shared quota exceeded"));
+        filter.doFilter(request("rotated-1"), new MockHttpServletResponse(), chain);
+        assertEquals(429, rejected.getStatus());
+        assertSame(tenantBudgets.forTenant(TenantBudgets.UNLISTED), tenantBudgets.forTenant("rotated-1"));
+        assertSame(tenantBudgets.forTenant("rotated-1"), tenantBudgets.forTenant("rotated-2"));
+        assertNotSame(tenantBudgets.forTenant("tenant-a"), tenantBudgets.forTenant("rotated-1"));
+    }
+
+    private static MockHttpServletRequest request(String tenant) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("X-Tenant-Id", tenant);
+        return request;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanager.web;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PrecompressedTaskListFilterTest {
+
+    private static final String TENANT = "compression-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testListIsServedPrecompressedUntilItChanges() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            createTask("Task " + i);
+        }
+        MockHttpServletResponse first = getTasksGzip();
+        assertEquals("gzip", first.getHeader("Content-Encoding"));
+        assertEquals(30, decode(first).size());
+
+        MockHttpServletResponse second = getTasksGzip();
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+
+        createTask("Task 30");
+        assertEquals(31, decode(getTasksGzip()).size());
+
+        mockMvc.perform(get("/api/tasks").header("X-Tenant-Id", TENANT))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.length()").value(31));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(PrecompressedTaskListFilter.acceptsGzip("gzip, deflate, br"));
+        assertTrue(PrecompressedTaskListFilter.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertFalse(PrecompressedTaskListFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(PrecompressedTaskListFilter.acceptsGzip("identity"));
+        assertFalse(PrecompressedTaskListFilter.acceptsGzip(null));
+    }
+
+    private void createTask(String title) throws Exception {
+        TaskRequest request = new TaskRequest(title, "Description long enough to push the list over the compression threshold", TaskStatus.TODO, null);
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-Tenant-Id", TENANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private MockHttpServletResponse getTasksGzip() throws Exception {
+        return mockMvc.perform(get("/api/tasks")
+                        .header("X-Tenant-Id", TENANT)
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private JsonNode decode(MockHttpServletResponse response) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            return objectMapper.readTree(in);
+        }
+    }
+}